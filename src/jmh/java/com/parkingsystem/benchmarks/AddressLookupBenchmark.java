@@ -0,0 +1,81 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.SlotAddress;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in a facility of hierarchical slot addresses, beyond the 2,600
+ * canonical IDs: CarPark's lookups by address string and by packed key,
+ * against a String-keyed ConcurrentHashMap. Lookup strings are reused,
+ * so the map always finds their hash codes cached, its best case.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressLookupBenchmark {
+
+    private static final int BAYS_PER_ZONE = 1000;
+
+    @Param({"10000", "200000"})
+    public int slots;
+
+    private CarPark carPark;
+    private ConcurrentMap<String, ParkingSlot> slotsById;
+    private String[] slotIds;
+    private long[] addresses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        slotsById = new ConcurrentHashMap<>();
+        slotIds = new String[slots];
+        addresses = new long[slots];
+
+        for (int i = 0; i < slots; i++) {
+            int zone = i / BAYS_PER_ZONE;
+            long address = SlotAddress.pack(1, 1 + zone / 26, (char) ('A' + zone % 26), 1 + i % BAYS_PER_ZONE);
+            String slotId = SlotAddress.format(address);
+            ParkingSlot slot = new VisitorSlot(slotId);
+            carPark.addSlot(slot);
+            slotsById.put(slotId, slot);
+            slotIds[i] = slotId;
+            addresses[i] = address;
+        }
+    }
+
+    private int next() {
+        int index = cursor + 1;
+        cursor = index == slots ? 0 : index;
+        return cursor;
+    }
+
+    @Benchmark
+    public ParkingSlot findSlotById() {
+        return carPark.findSlotById(slotIds[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot findSlotByAddress() {
+        return carPark.findSlotByAddress(addresses[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot concurrentHashMap() {
+        return slotsById.get(slotIds[next()]);
+    }
+}
@@ -0,0 +1,138 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Core CarPark operations across facility sizes, occupancy ratios and
+ * thread counts. Each thread parks and removes cars in its own stripe of
+ * free slots; stripes only overlap when a small facility has fewer free
+ * slots than threads, in which case some attempts fail on contention.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CarParkBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int slots;
+
+    @Param({"0.1", "0.5", "0.9"})
+    private double occupancy;
+
+    CarPark carPark;
+    int parked;
+    String[] parkedRegistrations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(slots, occupancy);
+        parked = (int) (slots * occupancy);
+
+        parkedRegistrations = new String[Math.max(1, parked)];
+        for (int i = 0; i < parkedRegistrations.length; i++) {
+            parkedRegistrations[i] = CarParkFixture.registration(i);
+        }
+    }
+
+    /**
+     * Per-thread stripe of free slots and lookup cursor
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        String[] slotIds;
+        Car[] cars;
+        int next;
+        int lookup;
+
+        @Setup(Level.Trial)
+        public void setUp(CarParkBenchmark benchmark, ThreadParams threads) {
+            int free = benchmark.slots - benchmark.parked;
+            int stripe = Math.max(1, free / threads.getThreadCount());
+            int first = threads.getThreadIndex() * stripe;
+
+            slotIds = new String[stripe];
+            cars = new Car[stripe];
+            for (int i = 0; i < stripe; i++) {
+                int index = benchmark.parked + (first + i) % free;
+                slotIds[i] = CarParkFixture.slotId(index);
+                cars[i] = CarParkFixture.car(index);
+            }
+            lookup = threads.getThreadIndex() % benchmark.parkedRegistrations.length;
+        }
+
+        int next() {
+            int index = next;
+            next = index + 1 == slotIds.length ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Car parkAndRemove(Cursor cursor) {
+        return parkAndRemoveOnce(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Car parkAndRemove4Threads(Cursor cursor) {
+        return parkAndRemoveOnce(cursor);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Car parkAndRemoveMaxThreads(Cursor cursor) {
+        return parkAndRemoveOnce(cursor);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Car parkAnywhereAndRemove(Cursor cursor) {
+        Car car = cursor.cars[cursor.next()];
+        carPark.parkAnywhereSafe(car);
+        return carPark.removeCarSafe(car.getRegistrationNumber());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ParkingSlot findCarByRegistration(Cursor cursor) {
+        return carPark.findCarByRegistration(nextParkedRegistration(cursor));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ParkingSlot findCarByRegistration4Threads(Cursor cursor) {
+        return carPark.findCarByRegistration(nextParkedRegistration(cursor));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<ParkingSlot> getAvailableSlots() {
+        return carPark.getAvailableSlots();
+    }
+
+    private Car parkAndRemoveOnce(Cursor cursor) {
+        int index = cursor.next();
+        carPark.parkCarSafe(cursor.slotIds[index], cursor.cars[index]);
+        return carPark.removeCarSafe(cursor.cars[index].getRegistrationNumber());
+    }
+
+    private String nextParkedRegistration(Cursor cursor) {
+        int index = cursor.lookup;
+        cursor.lookup = (index + 7) % parkedRegistrations.length;
+        return parkedRegistrations[index];
+    }
+}
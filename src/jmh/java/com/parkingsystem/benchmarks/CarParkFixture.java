@@ -0,0 +1,73 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.exceptions.ParkingException;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.SlotAddress;
+import com.parkingsystem.models.StaffSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+
+/**
+ * Builds populated car parks for benchmarks.
+ * Slot IDs are hierarchical addresses such as F1-L3-S17 and registrations
+ * are plates in canonical form such as C0042, or KA01AB0042 past the
+ * 260,000 canonical plates, so lookups take the packed-key paths real
+ * facilities use rather than the string fallback. Slots are created
+ * directly rather than through ParkingSlotFactory to keep setup fast.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+final class CarParkFixture {
+
+    private static final int BAYS_PER_LEVEL = SlotAddress.MAX_BAY;
+    private static final int LEVELS_PER_FACILITY = SlotAddress.MAX_LEVEL;
+    private static final int CANONICAL_PLATES = 26 * 10_000;
+
+    private CarParkFixture() {}
+
+    /**
+     * Creates a fresh car park with half staff and half visitor slots
+     * @param slots Number of slots
+     * @param occupancy Fraction of slots to fill, between 0 and 1
+     * @return The populated car park
+     */
+    static CarPark create(int slots, double occupancy) throws ParkingException {
+        CarPark.resetInstance();
+        CarPark carPark = CarPark.getInstance();
+
+        for (int i = 0; i < slots; i++) {
+            carPark.addSlot(slot(i));
+        }
+
+        int parked = (int) (slots * occupancy);
+        for (int i = 0; i < parked; i++) {
+            carPark.parkCar(slotId(i), car(i));
+        }
+        return carPark;
+    }
+
+    static ParkingSlot slot(int index) {
+        return index % 2 == 0 ? new StaffSlot(slotId(index)) : new VisitorSlot(slotId(index));
+    }
+
+    static Car car(int index) {
+        return new Car(registration(index), "Owner " + index, index % 2 == 0);
+    }
+
+    static String slotId(int index) {
+        int bay = index % BAYS_PER_LEVEL + 1;
+        int level = index / BAYS_PER_LEVEL % LEVELS_PER_FACILITY + 1;
+        int facility = index / (BAYS_PER_LEVEL * LEVELS_PER_FACILITY) + 1;
+        return SlotAddress.format(SlotAddress.pack(facility, level, index % 2 == 0 ? 'S' : 'V', bay));
+    }
+
+    static String registration(int index) {
+        int series = index / 10_000;
+        if (index < CANONICAL_PLATES) {
+            return (char) ('A' + series) + String.format("%04d", index % 10_000);
+        }
+        return String.format("KA01%c%c%04d", (char) ('A' + series / 26 % 26), (char) ('A' + series % 26), index % 10_000);
+    }
+}
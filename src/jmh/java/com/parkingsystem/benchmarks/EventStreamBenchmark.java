@@ -0,0 +1,59 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.OccupancyEventStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gate-side cost of publishing events: a park and remove pair with and
+ * without an OccupancyEventStream attached. No consumer reads the stream,
+ * which is the worst case for a design that makes gates wait on slow
+ * consumers; here the ring is simply overwritten.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class EventStreamBenchmark {
+
+    @Param({"false", "true"})
+    private boolean streamed;
+
+    private CarPark carPark;
+    private String[] slotIds;
+    private Car[] cars;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(10_000, 0.5);
+        if (streamed) {
+            OccupancyEventStream stream = new OccupancyEventStream(1 << 16);
+            stream.attach(carPark);
+        }
+
+        slotIds = new String[5_000];
+        cars = new Car[5_000];
+        for (int i = 0; i < slotIds.length; i++) {
+            slotIds[i] = CarParkFixture.slotId(5_000 + i);
+            cars[i] = CarParkFixture.car(5_000 + i);
+        }
+    }
+
+    @Benchmark
+    public Car parkAndRemove() {
+        int index = next;
+        next = index + 1 == slotIds.length ? 0 : index + 1;
+
+        carPark.parkCarSafe(slotIds[index], cars[index]);
+        return carPark.removeCarSafe(cars[index].getRegistrationNumber());
+    }
+}
@@ -0,0 +1,79 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.FeeCalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the FeeCalculatorService strategies and
+ * ParkingSlot.calculateParkingFee for a car parked a few hours ago,
+ * reading the clock on each call or billing to a fixed timestamp.
+ * Run with -prof gc to confirm the fee paths do not allocate.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeeCalculatorBenchmark {
+
+    private Car car;
+    private ParkingSlot slot;
+    private IFeeCalculator standard;
+    private IFeeCalculator weekend;
+    private IFeeCalculator dailyMax;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        slot = new VisitorSlot("V01");
+        car = new Car("B1234", "Jane", false);
+        slot.parkCar(car);
+        car.setParkingTime(LocalDateTime.now().minusHours(5).minusMinutes(20));
+
+        standard = new FeeCalculatorService.StandardFeeCalculator(5.0);
+        weekend = new FeeCalculatorService.WeekendFeeCalculator(5.0);
+        dailyMax = new FeeCalculatorService.DailyMaxFeeCalculator(5.0, 20.0);
+        now = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public double standardFee() {
+        return standard.calculateFee(car);
+    }
+
+    @Benchmark
+    public double weekendFee() {
+        return weekend.calculateFee(car);
+    }
+
+    @Benchmark
+    public double dailyMaxFee() {
+        return dailyMax.calculateFee(car);
+    }
+
+    @Benchmark
+    public double slotFee() {
+        return slot.calculateParkingFee();
+    }
+
+    @Benchmark
+    public double standardFeeAt() {
+        return standard.calculateFee(car, now);
+    }
+
+    @Benchmark
+    public double slotFeeAt() {
+        return slot.calculateParkingFee(now);
+    }
+}
@@ -0,0 +1,68 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.FeeCalculatorService;
+import com.parkingsystem.services.FeeSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outstanding revenue across a whole facility: the per-slot loop over
+ * getOccupiedSlots and calculateParkingFee versus CarPark.evaluateFees,
+ * sequential and parallel.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class FeeEvaluationBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int slots;
+
+    @Param({"0.9"})
+    private double occupancy;
+
+    private CarPark carPark;
+    private IFeeCalculator dailyMax;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(slots, occupancy);
+        dailyMax = new FeeCalculatorService.DailyMaxFeeCalculator(5.0, 20.0);
+        now = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(5);
+    }
+
+    @Benchmark
+    public double occupiedSlotsLoop() {
+        double total = 0;
+        for (ParkingSlot slot : carPark.getOccupiedSlots()) {
+            total += slot.calculateParkingFee();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FeeSummary evaluateFees() {
+        return carPark.evaluateFees(null, now, false);
+    }
+
+    @Benchmark
+    public FeeSummary evaluateFeesParallel() {
+        return carPark.evaluateFees(null, now, true);
+    }
+
+    @Benchmark
+    public FeeSummary evaluateFeesWithCalculator() {
+        return carPark.evaluateFees(dailyMax, now, false);
+    }
+}
@@ -0,0 +1,79 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.persistence.ParkingJournal;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Gate-side cost of journaling: a park and remove pair with and without a
+ * ParkingJournal attached. Records are forced to disk by the journal's own
+ * flusher thread, so the difference is the in-memory append.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    @Param({"false", "true"})
+    private boolean journaled;
+
+    @Param({"1", "5"})
+    private long commitIntervalMillis;
+
+    private CarPark carPark;
+    private ParkingJournal journal;
+    private Path directory;
+    private String[] slotIds;
+    private Car[] cars;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(10_000, 0.5);
+        directory = Files.createTempDirectory("parking-journal-benchmark");
+        if (journaled) {
+            journal = new ParkingJournal(directory, "journal", commitIntervalMillis);
+            carPark.addListener(journal);
+        }
+
+        slotIds = new String[5_000];
+        cars = new Car[5_000];
+        for (int i = 0; i < slotIds.length; i++) {
+            slotIds[i] = CarParkFixture.slotId(5_000 + i);
+            cars[i] = CarParkFixture.car(5_000 + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Car parkAndRemove() {
+        int index = next;
+        next = index + 1 == slotIds.length ? 0 : index + 1;
+
+        carPark.parkCarSafe(slotIds[index], cars[index]);
+        return carPark.removeCarSafe(cars[index].getRegistrationNumber());
+    }
+}
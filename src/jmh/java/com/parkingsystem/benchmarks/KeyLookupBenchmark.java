@@ -0,0 +1,104 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.utils.KeyCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in a full facility of 2,600 canonical slot IDs: CarPark's
+ * array-indexed lookups by string and by packed key, against a
+ * String-keyed ConcurrentHashMap. Lookup strings are reused, so the
+ * map always finds their hash codes cached, its best case.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyLookupBenchmark {
+
+    private static final int SLOTS = KeyCodec.SLOT_ID.capacity();
+
+    private CarPark carPark;
+    private ConcurrentMap<String, ParkingSlot> slotsById;
+    private ConcurrentMap<String, ParkingSlot> slotsByRegistration;
+    private String[] slotIds;
+    private String[] registrations;
+    private int[] slotKeys;
+    private int[] registrationKeys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        slotsById = new ConcurrentHashMap<>();
+        slotsByRegistration = new ConcurrentHashMap<>();
+        slotIds = new String[SLOTS];
+        registrations = new String[SLOTS];
+        slotKeys = new int[SLOTS];
+        registrationKeys = new int[SLOTS];
+
+        for (int i = 0; i < SLOTS; i++) {
+            String slotId = KeyCodec.SLOT_ID.decode(i);
+            String registration = KeyCodec.REGISTRATION.decode(i * 97);
+            ParkingSlot slot = new VisitorSlot(slotId);
+            carPark.addSlot(slot);
+            carPark.parkCar(slotId, new Car(registration, "Owner", false));
+            slotsById.put(slotId, slot);
+            slotsByRegistration.put(registration, slot);
+
+            slotIds[i] = slotId;
+            registrations[i] = registration;
+            slotKeys[i] = i;
+            registrationKeys[i] = i * 97;
+        }
+    }
+
+    private int next() {
+        int index = cursor + 1;
+        cursor = index == SLOTS ? 0 : index;
+        return cursor;
+    }
+
+    @Benchmark
+    public ParkingSlot findSlotById() {
+        return carPark.findSlotById(slotIds[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot findSlotByKey() {
+        return carPark.findSlotByKey(slotKeys[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot stringMapSlot() {
+        return slotsById.get(slotIds[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot findCarByRegistration() {
+        return carPark.findCarByRegistration(registrations[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot findCarByKey() {
+        return carPark.findCarByKey(registrationKeys[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot stringMapCar() {
+        return slotsByRegistration.get(registrations[next()]);
+    }
+}
@@ -0,0 +1,58 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.FeeCalculatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DailyMaxFeeCalculator for stays of one hour to 90 days. The closed-form
+ * calculation should cost the same at every length; dayByDay bills the
+ * same stay one capped day at a time for comparison.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongStayFeeBenchmark {
+
+    private static final double HOURLY_RATE = 5.0;
+    private static final double DAILY_MAX = 20.0;
+
+    @Param({"1", "24", "168", "720", "2160"})
+    private int stayHours;
+
+    private IFeeCalculator dailyMax;
+    private Car car;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dailyMax = new FeeCalculatorService.DailyMaxFeeCalculator(HOURLY_RATE, DAILY_MAX);
+        car = new Car("B1234", "Jane", false);
+        car.setParkingTimeMillis(System.currentTimeMillis());
+        now = car.getParkingTimeMillis() + TimeUnit.HOURS.toMillis(stayHours) + TimeUnit.MINUTES.toMillis(20);
+    }
+
+    @Benchmark
+    public double closedForm() {
+        return dailyMax.calculateFee(car, now);
+    }
+
+    @Benchmark
+    public double dayByDay() {
+        long hours = car.getBillableHours(now);
+        double fee = 0;
+        for (long billed = 0; billed < hours; billed += 24) {
+            fee += Math.min(Math.min(24, hours - billed) * HOURLY_RATE, DAILY_MAX);
+        }
+        return fee;
+    }
+}
@@ -0,0 +1,73 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.exceptions.ParkingException;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.ParkingOutcome;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a failed park, the common case at a busy gate: the
+ * ParkingOutcome API against catching the stackless exception the
+ * checked API throws, plus a successful park and remove through each.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutcomeBenchmark {
+
+    private CarPark carPark;
+    private Car parked;
+    private Car arriving;
+    private String occupiedSlot;
+    private String freeSlot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(1000, 0.5);
+        occupiedSlot = CarParkFixture.slotId(0);
+        freeSlot = CarParkFixture.slotId(998);
+        parked = carPark.findSlotById(occupiedSlot).getParkedCar();
+        arriving = new Car("A9999", "Jane", true);
+    }
+
+    @Benchmark
+    public ParkingOutcome failedParkOutcome() {
+        return carPark.tryParkCar(occupiedSlot, arriving);
+    }
+
+    @Benchmark
+    public ParkingException failedParkException() {
+        try {
+            carPark.parkCar(occupiedSlot, arriving);
+            return null;
+        } catch (ParkingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ParkingOutcome duplicateCarOutcome() {
+        return carPark.tryParkCar(freeSlot, parked);
+    }
+
+    @Benchmark
+    public ParkingOutcome parkAndRemoveOutcome() {
+        carPark.tryParkCar(freeSlot, arriving);
+        return carPark.tryRemoveCar(arriving.getRegistrationNumber());
+    }
+
+    @Benchmark
+    public Car parkAndRemove() throws ParkingException {
+        carPark.parkCar(freeSlot, arriving);
+        return carPark.removeCar(arriving.getRegistrationNumber());
+    }
+}
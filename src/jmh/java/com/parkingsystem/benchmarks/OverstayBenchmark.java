@@ -0,0 +1,77 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.OverstayMonitor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One minute of overstay detection in a full facility with a four-hour
+ * maximum stay: advancing an OverstayMonitor by one tick, against walking
+ * the occupied slots and comparing parking times. Parking times are
+ * spread evenly over the maximum stay, and each reported car is treated
+ * as re-parked, so about 1/240 of the cars fall due every tick.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class OverstayBenchmark {
+
+    private static final long MINUTE = 60_000L;
+    private static final long MAX_STAY = 240 * MINUTE;
+
+    @Param({"10000", "100000"})
+    public int slots;
+
+    private CarPark carPark;
+    private OverstayMonitor monitor;
+    private long now;
+    private long scanNow;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(slots, 1.0);
+        now = 1_000 * MAX_STAY;
+        scanNow = now;
+
+        Random random = new Random(42);
+        carPark.forEachOccupiedSlot(slot ->
+            slot.getParkedCar().setParkingTimeMillis(now - (long) (random.nextDouble() * MAX_STAY)));
+
+        monitor = new OverstayMonitor(MAX_STAY, MINUTE, (slot, car, at) -> {
+            car.setParkingTimeMillis(at);
+            monitor.onCarParked(slot, car);
+        });
+        monitor.attach(carPark);
+        monitor.advance(now);
+    }
+
+    @Benchmark
+    public int timingWheelTick() {
+        now += MINUTE;
+        return monitor.advance(now);
+    }
+
+    @Benchmark
+    public int scanOccupiedSlots() {
+        scanNow += MINUTE;
+        long cutoff = scanNow - MAX_STAY;
+        int overstays = 0;
+        for (ParkingSlot slot : carPark.getAllSlotsView()) {
+            if (slot.isOccupied() && slot.getParkedCar().getParkingTimeMillis() < cutoff) {
+                slot.getParkedCar().setParkingTimeMillis(scanNow);
+                overstays++;
+            }
+        }
+        return overstays;
+    }
+}
@@ -0,0 +1,80 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.persistence.DataPersistence;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.CarParkSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full JSON snapshot cost of DataPersistence by facility size, comparing
+ * the object-tree saveToFile with the streaming writer and the binary
+ * snapshot format. takeSnapshot is the in-memory copy the streaming and
+ * binary writers start from.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int slots;
+
+    @Param({"0.5"})
+    private double occupancy;
+
+    private CarPark carPark;
+    private DataPersistence persistence;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(slots, occupancy);
+        persistence = new DataPersistence();
+        file = Files.createTempFile("parking-benchmark", ".json");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CarParkSnapshot takeSnapshot() {
+        return carPark.takeSnapshot();
+    }
+
+    @Benchmark
+    public Path saveToFile() throws IOException {
+        persistence.saveToFile(carPark, file.toString());
+        return file;
+    }
+
+    @Benchmark
+    public Path saveToFileStreaming() throws IOException {
+        persistence.saveToFileStreaming(carPark, file.toString(), false);
+        return file;
+    }
+
+    @Benchmark
+    public Path saveToFileStreamingCompact() throws IOException {
+        persistence.saveToFileStreaming(carPark, file.toString(), true);
+        return file;
+    }
+
+    @Benchmark
+    public Path saveToBinaryFile() throws IOException {
+        persistence.saveToBinaryFile(carPark, file.toString());
+        return file;
+    }
+}
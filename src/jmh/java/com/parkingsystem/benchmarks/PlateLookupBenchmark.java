@@ -0,0 +1,86 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.RegistrationKey;
+import com.parkingsystem.models.SlotAddress;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Car lookups in a full facility whose cars carry ten-character plates,
+ * e.g. KA01AB1234: CarPark's lookups by plate string and by packed
+ * RegistrationKey, against a String-keyed ConcurrentHashMap. Lookup
+ * strings are copies of the stored plates, as they would be when read
+ * from a gate camera, so the map has to compare their characters rather
+ * than match them by reference.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlateLookupBenchmark {
+
+    private static final int BAYS_PER_LEVEL = 5000;
+
+    @Param({"10000", "100000"})
+    public int cars;
+
+    private CarPark carPark;
+    private ConcurrentMap<String, ParkingSlot> slotsByPlate;
+    private String[] plates;
+    private long[] keys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        slotsByPlate = new ConcurrentHashMap<>();
+        plates = new String[cars];
+        keys = new long[cars];
+
+        for (int i = 0; i < cars; i++) {
+            String slotId = SlotAddress.format(SlotAddress.pack(1, 1 + i / BAYS_PER_LEVEL, 'V', 1 + i % BAYS_PER_LEVEL));
+            String plate = String.format("KA%02d%c%c%04d", i % 100, (char) ('A' + i / 100 % 26), (char) ('A' + i / 2600 % 26), i % 10000);
+            ParkingSlot slot = new VisitorSlot(slotId);
+            carPark.addSlot(slot);
+            carPark.parkCar(slotId, new Car(plate, "Owner", false));
+            slotsByPlate.put(plate, slot);
+
+            plates[i] = new String(plate.toCharArray());
+            keys[i] = RegistrationKey.parse(plate);
+        }
+    }
+
+    private int next() {
+        int index = cursor + 1;
+        cursor = index == cars ? 0 : index;
+        return cursor;
+    }
+
+    @Benchmark
+    public ParkingSlot findCarByRegistration() {
+        return carPark.findCarByRegistration(plates[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot findCarByRegistrationKey() {
+        return carPark.findCarByRegistrationKey(keys[next()]);
+    }
+
+    @Benchmark
+    public ParkingSlot concurrentHashMap() {
+        return slotsByPlate.get(plates[next()]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.factory.ParkingSlotFactory;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.SlotAddress;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provisioning 1M slots into an empty CarPark: two buildings of 50
+ * levels, each level with 2,000 staff and 8,000 visitor bays. One slot
+ * at a time through the validating factory methods and addSlot, against
+ * createLevels and addSlots.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ProvisioningBenchmark {
+
+    private static final int BUILDINGS = 2;
+    private static final int LEVELS = 50;
+    private static final int STAFF_BAYS = 2_000;
+    private static final int VISITOR_BAYS = 8_000;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        CarPark.resetInstance();
+        System.gc();
+    }
+
+    @Benchmark
+    public CarPark oneByOne() throws Exception {
+        CarPark carPark = CarPark.getInstance();
+        for (int building = 1; building <= BUILDINGS; building++) {
+            for (int level = 1; level <= LEVELS; level++) {
+                for (int bay = 1; bay <= STAFF_BAYS; bay++) {
+                    String slotId = SlotAddress.format(SlotAddress.pack(building, level, 'S', bay));
+                    carPark.addSlot(ParkingSlotFactory.createStaffSlot(slotId));
+                }
+                for (int bay = 1; bay <= VISITOR_BAYS; bay++) {
+                    String slotId = SlotAddress.format(SlotAddress.pack(building, level, 'V', bay));
+                    carPark.addSlot(ParkingSlotFactory.createVisitorSlot(slotId));
+                }
+            }
+        }
+        return carPark;
+    }
+
+    @Benchmark
+    public CarPark bulk() throws Exception {
+        CarPark carPark = CarPark.getInstance();
+        List<ParkingSlot> slots = new ArrayList<>(BUILDINGS * LEVELS * (STAFF_BAYS + VISITOR_BAYS));
+        for (int building = 1; building <= BUILDINGS; building++) {
+            slots.addAll(ParkingSlotFactory.createLevels(building, 1, LEVELS, STAFF_BAYS, VISITOR_BAYS));
+        }
+        carPark.addSlots(slots);
+        return carPark;
+    }
+}
@@ -0,0 +1,65 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.persistence.DataPersistence;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of restoring a saved facility into an empty CarPark.
+ * Each measurement is a single cold-ish restore, as on a process restart.
+ * The same loader reads pretty and compact JSON and binary snapshots.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class RestoreBenchmark {
+
+    @Param({"10000", "100000"})
+    private int slots;
+
+    @Param({"0.5", "0.9"})
+    private double occupancy;
+
+    @Param({"json", "compactJson", "binary"})
+    private String format;
+
+    private DataPersistence persistence;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        persistence = new DataPersistence();
+        file = Files.createTempFile("parking-benchmark-restore", ".snapshot");
+
+        CarPark carPark = CarParkFixture.create(slots, occupancy);
+        if (format.equals("binary")) {
+            persistence.saveToBinaryFile(carPark, file.toString());
+        } else {
+            persistence.saveToFileStreaming(carPark, file.toString(), format.equals("compactJson"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CarPark restore() throws Exception {
+        CarPark.resetInstance();
+        CarPark carPark = CarPark.getInstance();
+        persistence.loadIntoCarPark(carPark, file.toString());
+        return carPark;
+    }
+}
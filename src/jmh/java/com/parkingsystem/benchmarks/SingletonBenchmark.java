@@ -0,0 +1,73 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CarPark.getInstance from one, four and as many threads as there are
+ * processors, against the static synchronized lookup it replaced.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonBenchmark {
+
+    private static CarPark synchronizedInstance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CarPark.resetInstance();
+        CarPark.getInstance();
+        synchronizedInstance = CarPark.getInstance();
+    }
+
+    /** The previous getInstance, kept for comparison */
+    private static synchronized CarPark synchronizedGetInstance() {
+        if (synchronizedInstance == null) {
+            synchronizedInstance = CarPark.getInstance();
+        }
+        return synchronizedInstance;
+    }
+
+    @Benchmark
+    public CarPark getInstance() {
+        return CarPark.getInstance();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CarPark getInstance4Threads() {
+        return CarPark.getInstance();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CarPark getInstanceMaxThreads() {
+        return CarPark.getInstance();
+    }
+
+    @Benchmark
+    public CarPark synchronizedLookup() {
+        return synchronizedGetInstance();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CarPark synchronizedLookup4Threads() {
+        return synchronizedGetInstance();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CarPark synchronizedLookupMaxThreads() {
+        return synchronizedGetInstance();
+    }
+}
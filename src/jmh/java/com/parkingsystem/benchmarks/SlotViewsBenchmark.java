@@ -0,0 +1,86 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.CarPark;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the copying ISearchable list methods with the view,
+ * stream and forEach variants for a dashboard-sized facility.
+ * Run with -prof gc to see the allocation difference.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlotViewsBenchmark {
+
+    @Param({"20000"})
+    private int slots;
+
+    @Param({"0.5"})
+    private double occupancy;
+
+    private CarPark carPark;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        carPark = CarParkFixture.create(slots, occupancy);
+    }
+
+    @Benchmark
+    public void allSlotsCopy(Blackhole bh) {
+        for (ParkingSlot slot : carPark.getAllSlots()) {
+            bh.consume(slot);
+        }
+    }
+
+    @Benchmark
+    public void allSlotsView(Blackhole bh) {
+        for (ParkingSlot slot : carPark.getAllSlotsView()) {
+            bh.consume(slot);
+        }
+    }
+
+    @Benchmark
+    public void availableCopy(Blackhole bh) {
+        for (ParkingSlot slot : carPark.getAvailableSlots()) {
+            bh.consume(slot);
+        }
+    }
+
+    @Benchmark
+    public void availableForEach(Blackhole bh) {
+        carPark.forEachAvailableSlot(bh::consume);
+    }
+
+    @Benchmark
+    public long availableStreamCount() {
+        return carPark.streamAvailableSlots().count();
+    }
+
+    @Benchmark
+    public int availableCopyCount() {
+        return carPark.getAvailableSlots().size();
+    }
+
+    @Benchmark
+    public void occupiedCopy(Blackhole bh) {
+        for (ParkingSlot slot : carPark.getOccupiedSlots()) {
+            bh.consume(slot);
+        }
+    }
+
+    @Benchmark
+    public void occupiedForEach(Blackhole bh) {
+        carPark.forEachOccupiedSlot(bh::consume);
+    }
+}
@@ -0,0 +1,95 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.Tariff;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fee throughput for a banded, capped tariff as stays grow from an hour
+ * to three months: the compiled Tariff against pricing the same tariff
+ * hour by hour, as a hand-chained calculator would.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TariffBenchmark {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Param({"1", "30", "240", "2160"})
+    private int stayHours;
+
+    private Tariff tariff;
+    private Tariff.Calculator compiled;
+    private Car car;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tariff = Tariff.builder("Visitor", 5.0)
+                .weekdayBand(7, 10, 8.0)
+                .weekdayBand(16, 19, 8.0)
+                .weekendBand(0, 24, 3.0)
+                .band(Tariff.Days.ALL, 22, 6, 1.0)
+                .dailyCap(40.0)
+                .build();
+        compiled = tariff.compile();
+
+        long arrival = LocalDateTime.of(2024, 3, 6, 9, 20).toInstant(ZoneOffset.UTC).toEpochMilli();
+        car = new Car("B1234", "Jane", false);
+        car.setParkingTimeMillis(arrival);
+        now = arrival + stayHours * HOUR + 600_000L;
+    }
+
+    @Benchmark
+    public double compiledTariff() {
+        return compiled.calculateFee(car, now);
+    }
+
+    @Benchmark
+    public double hourByHour() {
+        long hours = car.getBillableHours(now);
+        LocalDateTime hour = LocalDateTime.ofInstant(Instant.ofEpochMilli(car.getParkingTimeMillis()), tariff.getZone());
+        double total = 0;
+        double day = 0;
+        for (long i = 0; i < hours; i++) {
+            if (i > 0 && i % 24 == 0) {
+                total += Math.min(day, tariff.getDailyCap());
+                day = 0;
+            }
+            day += rateAt(hour);
+            hour = hour.plusHours(1);
+        }
+        return total + Math.min(day, tariff.getDailyCap());
+    }
+
+    private double rateAt(LocalDateTime time) {
+        int hourOfDay = time.getHour();
+        DayOfWeek dayOfWeek = time.getDayOfWeek();
+        double rate = tariff.getHourlyRate();
+        for (Tariff.Band band : tariff.getBands()) {
+            int from = band.getFromHour();
+            int to = band.getToHour();
+            boolean inBand = from < to ? hourOfDay >= from && hourOfDay < to : hourOfDay >= from || hourOfDay < to;
+            DayOfWeek bandDay = from > to && hourOfDay < to ? dayOfWeek.minus(1) : dayOfWeek;
+            boolean weekend = bandDay == DayOfWeek.SATURDAY || bandDay == DayOfWeek.SUNDAY;
+            boolean applies = band.getDays() == Tariff.Days.ALL || (band.getDays() == Tariff.Days.WEEKENDS) == weekend;
+            if (inBand && applies) {
+                rate = band.getHourlyRate();
+            }
+        }
+        return rate;
+    }
+}
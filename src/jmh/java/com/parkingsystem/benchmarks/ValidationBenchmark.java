@@ -0,0 +1,83 @@
+package com.parkingsystem.benchmarks;
+
+import com.parkingsystem.exceptions.InvalidRegistrationException;
+import com.parkingsystem.utils.ValidationUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration checks over a camera-style feed in which only some reads
+ * are valid plates. Compares the character-level isValidRegistration with
+ * the substring, parseInt and catch approach it replaced.
+ * Run with -prof gc to confirm the boolean path does not allocate.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final int READS = 1024;
+    private static final String[] GARBAGE = {"", "A123", "A12345", "a1234", "12345", "ABCDE", "A12O4", "A-12-"};
+
+    @Param({"0.1", "0.5", "0.9"})
+    private double validFraction;
+
+    private String[] reads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        reads = new String[READS];
+        for (int i = 0; i < READS; i++) {
+            reads[i] = random.nextDouble() < validFraction
+                ? (char) ('A' + random.nextInt(26)) + String.format("%04d", random.nextInt(10_000))
+                : GARBAGE[random.nextInt(GARBAGE.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void isValidRegistration(Blackhole blackhole) {
+        for (String read : reads) {
+            blackhole.consume(ValidationUtils.isValidRegistration(read));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void parseAndCatch(Blackhole blackhole) {
+        for (String read : reads) {
+            blackhole.consume(isValidByParsing(read));
+        }
+    }
+
+    /** The previous implementation, kept for comparison */
+    private static boolean isValidByParsing(String registration) {
+        try {
+            if (registration == null || registration.length() != 5) {
+                throw new InvalidRegistrationException(registration);
+            }
+            char firstChar = registration.charAt(0);
+            if (!Character.isUpperCase(firstChar) || !Character.isLetter(firstChar)) {
+                throw new InvalidRegistrationException(registration);
+            }
+            try {
+                Integer.parseInt(registration.substring(1));
+                return true;
+            } catch (NumberFormatException e) {
+                throw new InvalidRegistrationException(registration);
+            }
+        } catch (InvalidRegistrationException e) {
+            return false;
+        }
+    }
+}
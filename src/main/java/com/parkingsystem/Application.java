@@ -5,7 +5,9 @@ import com.parkingsystem.models.*;
 import com.parkingsystem.factory.ParkingSlotFactory;
 import com.parkingsystem.exceptions.*;
 import com.parkingsystem.utils.ValidationUtils;
+import com.parkingsystem.persistence.CheckpointScheduler;
 import com.parkingsystem.persistence.DataPersistence;
+import com.parkingsystem.persistence.ParkingJournal;
 
 import java.util.*;
 import java.io.IOException;
@@ -19,9 +21,13 @@ import java.io.IOException;
  */
 public class Application {
     
+    private static final long CHECKPOINT_INTERVAL_MILLIS = 60_000;
+    
     private final CarPark carPark;
     private final Scanner scanner;
     private final DataPersistence persistence;
+    private ParkingJournal journal;
+    private CheckpointScheduler checkpoints;
     
     public Application() {
         this.carPark = CarPark.getInstance();
@@ -40,7 +46,12 @@ public class Application {
         System.out.println("║     Professional OOP Implementation                   ║");
         System.out.println("╚══════════════════════════════════════════════════════╝");
         
-        initializeCarPark();
+        boolean restored = restoreSavedData();
+        openJournal();
+        if (!restored) {
+            initializeCarPark();
+        }
+        checkpoints = new CheckpointScheduler(carPark, persistence, journal, CHECKPOINT_INTERVAL_MILLIS);
         
         boolean running = true;
         while (running) {
@@ -74,9 +85,64 @@ public class Application {
             }
         }
         
+        checkpoints.close();
+        closeJournal();
         scanner.close();
     }
     
+    /**
+     * Restores the car park from the last save, if there is one
+     * @return true if saved data was restored
+     */
+    private boolean restoreSavedData() {
+        if (!persistence.saveFileExists() && !ParkingJournal.exists()) {
+            return false;
+        }
+        
+        try {
+            if (persistence.saveFileExists()) {
+                int restored = persistence.load(carPark);
+                System.out.printf("\n✓ Restored %d slots (%d occupied) from parking_data.json\n",
+                                 restored, carPark.getOccupiedCount());
+            }
+            
+            int replayed = ParkingJournal.replay(carPark);
+            if (replayed > 0) {
+                System.out.printf("✓ Replayed %d changes made since the last save\n", replayed);
+            }
+            return carPark.getTotalSlots() > 0;
+        } catch (IOException | ParkingException e) {
+            System.out.println("Could not restore saved data: " + e.getMessage());
+            carPark.clear();
+            return false;
+        }
+    }
+    
+    /**
+     * Starts journaling every change, so nothing is lost between saves
+     */
+    private void openJournal() {
+        try {
+            journal = new ParkingJournal();
+            carPark.addListener(journal);
+        } catch (IOException e) {
+            System.out.println("Journal unavailable, changes since the last checkpoint may be lost: " + e.getMessage());
+        }
+    }
+    
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        
+        carPark.removeListener(journal);
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Error closing journal: " + e.getMessage());
+        }
+    }
+    
     private void initializeCarPark() {
         System.out.println("\n--- Car Park Initialization ---");
         
@@ -84,17 +150,10 @@ public class Application {
         int visitorSlots = getPositiveInteger("Enter number of visitor slots: ");
         
         try {
-            for (int i = 1; i <= staffSlots; i++) {
-                String slotId = String.format("S%02d", i);
-                ParkingSlot slot = ParkingSlotFactory.createStaffSlot(slotId);
-                carPark.addSlot(slot);
-            }
-            
-            for (int i = 1; i <= visitorSlots; i++) {
-                String slotId = String.format("V%02d", i);
-                ParkingSlot slot = ParkingSlotFactory.createVisitorSlot(slotId);
-                carPark.addSlot(slot);
-            }
+            List<ParkingSlot> slots = new ArrayList<>(staffSlots + visitorSlots);
+            createSlots(slots, ParkingSlotFactory.SlotType.STAFF, 'S', staffSlots);
+            createSlots(slots, ParkingSlotFactory.SlotType.VISITOR, 'V', visitorSlots);
+            carPark.addSlots(slots);
             
             System.out.printf("\n✓ Initialized: %d staff slots ($3/hr) + %d visitor slots ($5/hr)\n", 
                              staffSlots, visitorSlots);
@@ -175,6 +234,8 @@ public class Application {
         for (ParkingSlot slot : slots) {
             System.out.println("  " + slot.toString());
         }
+        
+        System.out.println("\n" + carPark.evaluateFees());
     }
     
     private void deleteAllUnoccupiedSlots() {
@@ -246,19 +307,37 @@ public class Application {
     private void saveData() {
         System.out.println("\n--- Save Data ---");
         try {
-            persistence.save(carPark);
+            checkpoints.checkpointNow();
             System.out.println("✓ Data saved to parking_data.json");
         } catch (IOException e) {
             System.out.println("Error saving data: " + e.getMessage());
         }
     }
     
+    /**
+     * Short IDs such as S01 cover 99 slots per type; larger car parks use
+     * addresses with the slot type as the zone, filling level 1 first,
+     * e.g. F0-L1-S150
+     */
+    private static void createSlots(List<ParkingSlot> slots, ParkingSlotFactory.SlotType type, char prefix, int count)
+            throws InvalidSlotIdException {
+        if (count <= 99) {
+            for (int i = 1; i <= count; i++) {
+                slots.add(ParkingSlotFactory.createSlot(String.format("%c%02d", prefix, i), type));
+            }
+            return;
+        }
+        for (int level = 1, remaining = count; remaining > 0; level++, remaining -= SlotAddress.MAX_BAY) {
+            slots.addAll(ParkingSlotFactory.createRange(0, level, prefix, 1, Math.min(remaining, SlotAddress.MAX_BAY), type));
+        }
+    }
+    
     private String getValidSlotId(String prompt) {
         while (true) {
             System.out.print(prompt);
             String input = scanner.nextLine().trim().toUpperCase();
             if (ValidationUtils.isValidSlotId(input)) return input;
-            System.out.println("Invalid format. Use: Letter + 2 digits (e.g., D01)");
+            System.out.println("Invalid format. Use: Letter + 2 digits (e.g., D01) or an address (e.g., F1-L2-A147)");
         }
     }
     
@@ -266,8 +345,8 @@ public class Application {
         while (true) {
             System.out.print(prompt);
             String input = scanner.nextLine().trim().toUpperCase();
-            if (ValidationUtils.isValidRegistration(input)) return input;
-            System.out.println("Invalid format. Use: Letter + 4 digits (e.g., T1234)");
+            if (ValidationUtils.isValidPlate(input)) return input;
+            System.out.println("Invalid format. Use: up to 12 letters and digits (e.g., T1234 or KA01AB1234)");
         }
     }
     
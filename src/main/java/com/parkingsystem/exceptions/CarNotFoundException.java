@@ -15,7 +15,7 @@ public class CarNotFoundException extends ParkingException {
      * @param registrationNumber The registration of the car not found
      */
     public CarNotFoundException(String registrationNumber) {
-        super("Car not found: " + registrationNumber, "CAR_NOT_FOUND");
+        super("Car not found: " + registrationNumber, "CAR_NOT_FOUND", true);
         this.registrationNumber = registrationNumber;
     }
     
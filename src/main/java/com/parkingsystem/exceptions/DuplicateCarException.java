@@ -15,7 +15,7 @@ public class DuplicateCarException extends ParkingException {
      * @param registrationNumber The duplicate car registration
      */
     public DuplicateCarException(String registrationNumber) {
-        super("Car is already parked: " + registrationNumber, "DUPLICATE_CAR");
+        super("Car is already parked: " + registrationNumber, "DUPLICATE_CAR", true);
         this.registrationNumber = registrationNumber;
     }
     
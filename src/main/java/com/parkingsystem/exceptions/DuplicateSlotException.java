@@ -15,7 +15,7 @@ public class DuplicateSlotException extends ParkingException {
      * @param slotId The duplicate slot ID
      */
     public DuplicateSlotException(String slotId) {
-        super("Parking slot already exists: " + slotId, "DUPLICATE_SLOT");
+        super("Parking slot already exists: " + slotId, "DUPLICATE_SLOT", true);
         this.slotId = slotId;
     }
     
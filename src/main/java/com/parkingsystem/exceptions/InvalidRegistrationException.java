@@ -21,6 +21,18 @@ public class InvalidRegistrationException extends ParkingException {
         this.invalidRegistration = invalidRegistration;
     }
     
+    /**
+     * Creates a new InvalidRegistrationException for the wider plate format
+     * @param invalidRegistration The invalid registration
+     * @param maxLength Longest accepted plate
+     */
+    public InvalidRegistrationException(String invalidRegistration, int maxLength) {
+        super("Invalid registration format: " + invalidRegistration +
+              ". Expected: 1 to " + maxLength + " uppercase letters and digits (e.g., T1234 or KA01AB1234)",
+              "INVALID_REGISTRATION");
+        this.invalidRegistration = invalidRegistration;
+    }
+    
     /**
      * Gets the invalid registration
      * @return The invalid registration
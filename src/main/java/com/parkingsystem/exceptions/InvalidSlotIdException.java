@@ -16,7 +16,7 @@ public class InvalidSlotIdException extends ParkingException {
      */
     public InvalidSlotIdException(String invalidId) {
         super("Invalid slot ID format: " + invalidId + 
-              ". Expected: Uppercase letter followed by 2 digits (e.g., S01)", 
+              ". Expected: Uppercase letter followed by 2 digits (e.g., S01) or an address (e.g., F1-L2-A147)", 
               "INVALID_SLOT_ID");
         this.invalidId = invalidId;
     }
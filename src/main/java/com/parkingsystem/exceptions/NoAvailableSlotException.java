@@ -0,0 +1,29 @@
+package com.parkingsystem.exceptions;
+
+/**
+ * Exception thrown when no free slot of the required type is left.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class NoAvailableSlotException extends ParkingException {
+    
+    private final boolean isStaffSlot;
+    
+    /**
+     * Creates a new NoAvailableSlotException
+     * @param isStaffSlot Whether a staff slot was requested
+     */
+    public NoAvailableSlotException(boolean isStaffSlot) {
+        super(String.format("No available %s slot", isStaffSlot ? "staff" : "visitor"), "NO_AVAILABLE_SLOT", true);
+        this.isStaffSlot = isStaffSlot;
+    }
+    
+    /**
+     * Gets whether a staff slot was requested
+     * @return true if a staff slot was requested
+     */
+    public boolean isStaffSlot() {
+        return isStaffSlot;
+    }
+}
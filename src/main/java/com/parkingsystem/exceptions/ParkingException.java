@@ -4,11 +4,19 @@ package com.parkingsystem.exceptions;
  * Base exception class for all parking system exceptions.
  * Provides a foundation for the exception hierarchy.
  * 
+ * Subclasses that report expected outcomes of park and remove calls, such
+ * as an occupied slot, skip capturing a stack trace, which is most of the
+ * cost of creating one. Run with -Dparking.exceptions.stackTraces=true to
+ * capture them when debugging. All other parking exceptions, such as
+ * validation errors, capture one as usual.
+ * 
  * @author [Your Name]
  * @version 1.0
  */
 public class ParkingException extends Exception {
     
+    private static final boolean STACK_TRACES = Boolean.getBoolean("parking.exceptions.stackTraces");
+    
     private final String errorCode;
     
     /**
@@ -30,6 +38,18 @@ public class ParkingException extends Exception {
         this.errorCode = errorCode;
     }
     
+    /**
+     * Creates a new ParkingException for an expected outcome, which skips
+     * its stack trace unless they are enabled for debugging
+     * @param message The error message
+     * @param errorCode The specific error code
+     * @param expectedOutcome true to skip the stack trace
+     */
+    protected ParkingException(String message, String errorCode, boolean expectedOutcome) {
+        super(message, null, true, !expectedOutcome || STACK_TRACES);
+        this.errorCode = errorCode;
+    }
+    
     /**
      * Creates a new ParkingException with cause
      * @param message The error message
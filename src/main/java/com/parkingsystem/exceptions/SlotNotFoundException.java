@@ -15,7 +15,7 @@ public class SlotNotFoundException extends ParkingException {
      * @param slotId The ID of the slot that was not found
      */
     public SlotNotFoundException(String slotId) {
-        super("Parking slot not found: " + slotId, "SLOT_NOT_FOUND");
+        super("Parking slot not found: " + slotId, "SLOT_NOT_FOUND", true);
         this.slotId = slotId;
     }
     
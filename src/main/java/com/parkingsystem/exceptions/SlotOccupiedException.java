@@ -15,7 +15,7 @@ public class SlotOccupiedException extends ParkingException {
      * @param slotId The ID of the occupied slot
      */
     public SlotOccupiedException(String slotId) {
-        super("Parking slot is already occupied: " + slotId, "SLOT_OCCUPIED");
+        super("Parking slot is already occupied: " + slotId, "SLOT_OCCUPIED", true);
         this.slotId = slotId;
     }
     
@@ -21,7 +21,7 @@ public class SlotTypeMismatchException extends ParkingException {
     public SlotTypeMismatchException(String slotId, boolean isStaffSlot, boolean isStaffCar) {
         super(String.format("Type mismatch: %s slot cannot accept %s car", 
               isStaffSlot ? "Staff" : "Visitor", 
-              isStaffCar ? "staff" : "visitor"), "TYPE_MISMATCH");
+              isStaffCar ? "staff" : "visitor"), "TYPE_MISMATCH", true);
         this.slotId = slotId;
         this.isStaffSlot = isStaffSlot;
         this.isStaffCar = isStaffCar;
@@ -1,16 +1,24 @@
 package com.parkingsystem.factory;
 
 import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.SlotAddress;
 import com.parkingsystem.models.StaffSlot;
 import com.parkingsystem.models.VisitorSlot;
 import com.parkingsystem.exceptions.InvalidSlotIdException;
 import com.parkingsystem.utils.ValidationUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Factory class for creating ParkingSlot objects.
  * Demonstrates the Factory Design Pattern.
  * Encapsulates slot creation logic.
  * 
+ * Whole levels can be provisioned at once with createRange and
+ * createLevels, which check the address range once instead of
+ * validating every slot ID.
+ * 
  * @author [Your Name]
  * @version 1.0
  */
@@ -91,4 +99,86 @@ public class ParkingSlotFactory {
         ValidationUtils.validateSlotId(slotId);
         return new VisitorSlot(slotId);
     }
+    
+    /**
+     * Creates a run of bays in one zone of one level, e.g. F1-L2-A1 to F1-L2-A500
+     * @param facility Facility number
+     * @param level Level number
+     * @param zone Zone letter
+     * @param fromBay First bay number
+     * @param toBay Last bay number, inclusive
+     * @param type The type of slot to create
+     * @return The slots, in bay order
+     * @throws InvalidSlotIdException if the range contains an invalid address
+     */
+    public static List<ParkingSlot> createRange(int facility, int level, char zone, int fromBay, int toBay, SlotType type)
+            throws InvalidSlotIdException {
+        List<ParkingSlot> slots = new ArrayList<>(Math.toIntExact(checkRange(facility, level, level, zone, fromBay, toBay)));
+        addRange(slots, facility, level, zone, fromBay, toBay, type);
+        return slots;
+    }
+    
+    /**
+     * Creates consecutive levels with the same layout: staff bays in zone S
+     * and visitor bays in zone V, each numbered from 1. For example, levels
+     * 1 to 8 with 100 staff and 400 visitor bays give F1-L1-S1 to F1-L8-V400.
+     * @param facility Facility number
+     * @param fromLevel First level number
+     * @param toLevel Last level number, inclusive
+     * @param staffBays Staff bays per level, may be 0
+     * @param visitorBays Visitor bays per level, may be 0
+     * @return The slots, level by level
+     * @throws InvalidSlotIdException if the levels contain an invalid address
+     */
+    public static List<ParkingSlot> createLevels(int facility, int fromLevel, int toLevel, int staffBays, int visitorBays)
+            throws InvalidSlotIdException {
+        if (staffBays < 0 || visitorBays < 0) {
+            throw new IllegalArgumentException("Bays per level cannot be negative");
+        }
+        
+        long total = 0;
+        if (staffBays > 0) {
+            total += checkRange(facility, fromLevel, toLevel, 'S', 1, staffBays);
+        }
+        if (visitorBays > 0) {
+            total += checkRange(facility, fromLevel, toLevel, 'V', 1, visitorBays);
+        }
+        
+        List<ParkingSlot> slots = new ArrayList<>(Math.toIntExact(total));
+        for (int level = fromLevel; level <= toLevel; level++) {
+            addRange(slots, facility, level, 'S', 1, staffBays, SlotType.STAFF);
+            addRange(slots, facility, level, 'V', 1, visitorBays, SlotType.VISITOR);
+        }
+        return slots;
+    }
+    
+    /**
+     * Checks that both corners of a range are valid addresses, which makes
+     * every address between them valid too
+     * @return Number of slots in the range
+     */
+    private static long checkRange(int facility, int fromLevel, int toLevel, char zone, int fromBay, int toBay)
+            throws InvalidSlotIdException {
+        if (fromLevel > toLevel || fromBay > toBay) {
+            throw new IllegalArgumentException(
+                String.format("Empty range: levels %d-%d, bays %d-%d", fromLevel, toLevel, fromBay, toBay));
+        }
+        
+        for (int[] corner : new int[][] {{fromLevel, fromBay}, {toLevel, toBay}}) {
+            try {
+                SlotAddress.pack(facility, corner[0], zone, corner[1]);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSlotIdException("F" + facility + "-L" + corner[0] + "-" + zone + corner[1]);
+            }
+        }
+        return (long) (toLevel - fromLevel + 1) * (toBay - fromBay + 1);
+    }
+    
+    private static void addRange(List<ParkingSlot> slots, int facility, int level, char zone, int fromBay, int toBay,
+                                 SlotType type) {
+        for (int bay = fromBay; bay <= toBay; bay++) {
+            String slotId = SlotAddress.format(SlotAddress.pack(facility, level, zone, bay));
+            slots.add(type == SlotType.STAFF ? new StaffSlot(slotId) : new VisitorSlot(slotId));
+        }
+    }
 }
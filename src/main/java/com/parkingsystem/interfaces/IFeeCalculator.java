@@ -1,6 +1,7 @@
 package com.parkingsystem.interfaces;
 
 import com.parkingsystem.models.Car;
+import com.parkingsystem.utils.ParkingClock;
 
 /**
  * Strategy interface for fee calculation.
@@ -13,11 +14,23 @@ import com.parkingsystem.models.Car;
 public interface IFeeCalculator {
     
     /**
-     * Calculates the parking fee for a car
+     * Calculates the parking fee for a car up to the current ParkingClock time
      * @param car The car to calculate fee for
      * @return The calculated fee amount
      */
-    double calculateFee(Car car);
+    default double calculateFee(Car car) {
+        return calculateFee(car, ParkingClock.currentTimeMillis());
+    }
+    
+    /**
+     * Calculates the parking fee for a car up to a given time.
+     * Implementations should not allocate, so fees for many cars can be
+     * evaluated against one timestamp cheaply.
+     * @param car The car to calculate fee for
+     * @param nowMillis The time to bill to, in epoch milliseconds
+     * @return The calculated fee amount
+     */
+    double calculateFee(Car car, long nowMillis);
     
     /**
      * Gets the hourly rate for this calculator
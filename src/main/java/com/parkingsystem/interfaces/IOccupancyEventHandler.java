@@ -0,0 +1,26 @@
+package com.parkingsystem.interfaces;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.OccupancyEventStream.Kind;
+
+/**
+ * Receives events read from an OccupancyEventStream.
+ * Called on the consumer's own thread, never on a gate thread.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IOccupancyEventHandler {
+    
+    /**
+     * Called for each event, in publication order
+     * @param sequence Position of the event in the stream
+     * @param kind What changed
+     * @param slot The slot that changed
+     * @param car The car parked or removed, or null for slot events
+     * @param timeMillis When the change happened, in epoch milliseconds
+     */
+    void onEvent(long sequence, Kind kind, ParkingSlot slot, Car car, long timeMillis);
+}
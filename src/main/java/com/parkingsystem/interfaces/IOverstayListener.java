@@ -0,0 +1,26 @@
+package com.parkingsystem.interfaces;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+
+/**
+ * Callback for cars parked longer than the maximum stay.
+ * 
+ * Called on the thread that advances the OverstayMonitor, after its
+ * internal lock is released, so implementations may call back into the
+ * car park, e.g. to look up or remove the car.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IOverstayListener {
+    
+    /**
+     * Called once per stay when a car passes the maximum stay
+     * @param slot The slot the car is parked in
+     * @param car The car, still parked
+     * @param nowMillis The time the monitor was advanced to, in epoch milliseconds
+     */
+    void onOverstay(ParkingSlot slot, Car car, long nowMillis);
+}
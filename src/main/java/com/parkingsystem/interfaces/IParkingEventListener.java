@@ -0,0 +1,45 @@
+package com.parkingsystem.interfaces;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+
+/**
+ * Observer interface for changes to a car park.
+ * Demonstrates the Observer Design Pattern.
+ * 
+ * Callbacks run on the thread that made the change, while the affected
+ * slot is still held, so events for the same slot or car arrive in the
+ * order the changes happened. Implementations must be fast and must not
+ * throw or call back into the car park.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+public interface IParkingEventListener {
+    
+    /**
+     * Called after a slot has been added
+     * @param slot The added slot
+     */
+    default void onSlotAdded(ParkingSlot slot) {}
+    
+    /**
+     * Called when a slot is being removed
+     * @param slot The removed slot
+     */
+    default void onSlotRemoved(ParkingSlot slot) {}
+    
+    /**
+     * Called after a car has been parked
+     * @param slot The slot the car was parked in
+     * @param car The parked car, with its parking time set
+     */
+    default void onCarParked(ParkingSlot slot, Car car) {}
+    
+    /**
+     * Called when a car is being removed
+     * @param slot The slot the car is leaving
+     * @param car The removed car
+     */
+    default void onCarRemoved(ParkingSlot slot, Car car) {}
+}
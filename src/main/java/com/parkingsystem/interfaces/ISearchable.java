@@ -2,12 +2,19 @@ package com.parkingsystem.interfaces;
 
 import com.parkingsystem.models.Car;
 import com.parkingsystem.models.ParkingSlot;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface defining search operations for the parking system.
  * Enables flexible search implementations.
  * 
+ * The get*Slots methods return independent copies. The view, stream and
+ * forEach variants read the underlying structure directly without copying,
+ * and reflect concurrent changes as they iterate.
+ * 
  * @author [Your Name]
  * @version 1.0
  */
@@ -44,4 +51,34 @@ public interface ISearchable {
      * @return List of occupied slots
      */
     List<ParkingSlot> getOccupiedSlots();
+    
+    /**
+     * Gets an unmodifiable live view of all parking slots
+     * @return Read-only view backed by the system's slots
+     */
+    Collection<ParkingSlot> getAllSlotsView();
+    
+    /**
+     * Streams the available (unoccupied) slots without copying
+     * @return Stream of available slots
+     */
+    Stream<ParkingSlot> streamAvailableSlots();
+    
+    /**
+     * Streams the occupied slots without copying
+     * @return Stream of occupied slots
+     */
+    Stream<ParkingSlot> streamOccupiedSlots();
+    
+    /**
+     * Performs an action for each available slot without copying
+     * @param action The action to perform
+     */
+    void forEachAvailableSlot(Consumer<? super ParkingSlot> action);
+    
+    /**
+     * Performs an action for each occupied slot without copying
+     * @param action The action to perform
+     */
+    void forEachOccupiedSlot(Consumer<? super ParkingSlot> action);
 }
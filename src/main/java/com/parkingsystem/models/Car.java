@@ -1,5 +1,8 @@
 package com.parkingsystem.models;
 
+import com.parkingsystem.utils.ParkingClock;
+import com.parkingsystem.utils.StringInterner;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.Duration;
@@ -9,50 +12,77 @@ import java.io.Serializable;
  * Represents a car in the parking system.
  * Implements Serializable for data persistence support.
  * 
+ * The parking time is stored as epoch milliseconds read from ParkingClock,
+ * so durations and fees can be computed without allocating. Owner names
+ * are interned, so regular visitors share one copy of their name.
+ * 
  * @author [Your Name]
- * @version 2.0
+ * @version 2.1
  */
 public class Car implements Serializable {
     
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+    
+    /** Parking time value of a car that is not parked */
+    public static final long NOT_PARKED = Long.MIN_VALUE;
+    
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
     
     private final String registrationNumber;
     private final String ownerName;
     private final boolean isStaff;
-    private LocalDateTime parkingTime;
+    private volatile long parkingTimeMillis;
     
     /**
      * Constructor for Car object
-     * @param registrationNumber The car's registration number (format: Letter + 4 digits)
+     * @param registrationNumber The car's registration number (e.g., T1234 or KA01AB1234)
      * @param ownerName The name of the car owner
      * @param isStaff Whether the owner is a staff member
      */
     public Car(String registrationNumber, String ownerName, boolean isStaff) {
         this.registrationNumber = registrationNumber;
-        this.ownerName = ownerName;
+        this.ownerName = StringInterner.intern(ownerName);
         this.isStaff = isStaff;
-        this.parkingTime = null;
+        this.parkingTimeMillis = NOT_PARKED;
     }
     
     // Getters
     public String getRegistrationNumber() { return registrationNumber; }
     public String getOwnerName() { return ownerName; }
     public boolean isStaff() { return isStaff; }
-    public LocalDateTime getParkingTime() { return parkingTime; }
+    public long getParkingTimeMillis() { return parkingTimeMillis; }
+    public boolean isParked() { return parkingTimeMillis != NOT_PARKED; }
+    
+    /**
+     * Gets the parking time in the clock's time zone
+     * @return Parking time, or null if not parked
+     */
+    public LocalDateTime getParkingTime() {
+        long millis = parkingTimeMillis;
+        return millis == NOT_PARKED ? null : ParkingClock.toLocalDateTime(millis);
+    }
     
     /**
      * Records the current time as parking time
      */
     public void setParkingTime() {
-        this.parkingTime = LocalDateTime.now();
+        this.parkingTimeMillis = ParkingClock.currentTimeMillis();
     }
     
     /**
      * Sets parking time to a specific value (for testing/persistence)
-     * @param time The parking time to set
+     * @param time The parking time to set, or null to clear it
      */
     public void setParkingTime(LocalDateTime time) {
-        this.parkingTime = time;
+        this.parkingTimeMillis = time == null ? NOT_PARKED : ParkingClock.toEpochMillis(time);
+    }
+    
+    /**
+     * Sets parking time in epoch milliseconds (for persistence)
+     * @param epochMillis The parking time to set, or NOT_PARKED
+     */
+    public void setParkingTimeMillis(long epochMillis) {
+        this.parkingTimeMillis = epochMillis;
     }
     
     /**
@@ -60,6 +90,7 @@ public class Car implements Serializable {
      * @return Formatted parking time string
      */
     public String getFormattedParkingTime() {
+        LocalDateTime parkingTime = getParkingTime();
         if (parkingTime == null) {
             return "Not parked";
         }
@@ -67,15 +98,38 @@ public class Car implements Serializable {
         return parkingTime.format(formatter);
     }
     
+    /**
+     * Calculates parking duration up to a given time without allocating
+     * @param nowMillis The time to measure to, in epoch milliseconds
+     * @return Milliseconds parked, or 0 if not parked or parked after nowMillis
+     */
+    public long getParkingDurationMillis(long nowMillis) {
+        long millis = parkingTimeMillis;
+        if (millis == NOT_PARKED || nowMillis < millis) {
+            return 0;
+        }
+        return nowMillis - millis;
+    }
+    
+    /**
+     * Calculates the hours to bill up to a given time: whole hours parked,
+     * with a minimum of one hour
+     * @param nowMillis The time to bill to, in epoch milliseconds
+     * @return Billable hours, or 0 if not parked
+     */
+    public long getBillableHours(long nowMillis) {
+        if (!isParked()) {
+            return 0;
+        }
+        return Math.max(1, getParkingDurationMillis(nowMillis) / MILLIS_PER_HOUR);
+    }
+    
     /**
      * Calculates parking duration
      * @return Duration object representing time parked
      */
     public Duration getParkingDurationObject() {
-        if (parkingTime == null) {
-            return Duration.ZERO;
-        }
-        return Duration.between(parkingTime, LocalDateTime.now());
+        return Duration.ofMillis(getParkingDurationMillis(ParkingClock.currentTimeMillis()));
     }
     
     /**
@@ -83,7 +137,7 @@ public class Car implements Serializable {
      * @return Parking duration string
      */
     public String getParkingDuration() {
-        if (parkingTime == null) {
+        if (!isParked()) {
             return "Not parked";
         }
         
@@ -99,7 +153,7 @@ public class Car implements Serializable {
      * Clears the parking time (when car is removed)
      */
     public void clearParkingTime() {
-        this.parkingTime = null;
+        this.parkingTimeMillis = NOT_PARKED;
     }
     
     @Override
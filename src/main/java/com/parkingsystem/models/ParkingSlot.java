@@ -3,22 +3,32 @@ package com.parkingsystem.models;
 import com.parkingsystem.interfaces.IParkable;
 import com.parkingsystem.exceptions.SlotOccupiedException;
 import com.parkingsystem.exceptions.SlotTypeMismatchException;
+import com.parkingsystem.utils.ParkingClock;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Abstract base class for parking slots.
  * Demonstrates inheritance and abstract class usage.
  * Implements IParkable interface for polymorphism.
+ * Occupancy changes use compare-and-set on the parked car reference,
+ * so two threads can never park in the same slot.
  * 
  * @author [Your Name]
- * @version 2.0
+ * @version 2.1
  */
 public abstract class ParkingSlot implements IParkable, Serializable {
     
     private static final long serialVersionUID = 1L;
     
+    private static final AtomicReferenceFieldUpdater<ParkingSlot, Car> PARKED_CAR =
+        AtomicReferenceFieldUpdater.newUpdater(ParkingSlot.class, Car.class, "parkedCar");
+    
+    // Marker stored in parkedCar once the slot has been removed from a car park
+    private static final Car RETIRED = new Car("", "", false);
+    
     protected final String slotId;
-    protected Car parkedCar;
+    protected volatile Car parkedCar;
     
     /**
      * Constructor for ParkingSlot
@@ -33,10 +43,47 @@ public abstract class ParkingSlot implements IParkable, Serializable {
     public String getSlotId() { return slotId; }
     
     @Override
-    public Car getParkedCar() { return parkedCar; }
+    public Car getParkedCar() {
+        Car car = parkedCar;
+        return car == RETIRED ? null : car;
+    }
     
     @Override
-    public boolean isOccupied() { return parkedCar != null; }
+    public boolean isOccupied() {
+        Car car = parkedCar;
+        return car != null && car != RETIRED;
+    }
+    
+    /**
+     * Checks if this slot has been retired by a car park
+     * @return true if retired
+     */
+    public boolean isRetired() { return parkedCar == RETIRED; }
+    
+    /**
+     * Atomically marks an empty slot as retired so no car can park in it
+     * @return true if the slot was empty and is now retired
+     */
+    public boolean tryRetire() {
+        return PARKED_CAR.compareAndSet(this, null, RETIRED);
+    }
+    
+    /**
+     * Atomically places a car in an empty slot of its type without touching
+     * the car's parking time, for callers that may still back it out
+     * @param car The car to place
+     * @return true if the slot was empty and now holds the car
+     */
+    public boolean tryOccupy(Car car) {
+        return isStaffSlot() == car.isStaff() && PARKED_CAR.compareAndSet(this, null, car);
+    }
+    
+    /**
+     * Returns a retired slot to the empty state so it can be reused
+     */
+    public void reinstate() {
+        PARKED_CAR.compareAndSet(this, RETIRED, null);
+    }
     
     /**
      * Abstract method to determine if this is a staff slot
@@ -74,14 +121,11 @@ public abstract class ParkingSlot implements IParkable, Serializable {
     
     @Override
     public boolean parkCar(Car car) {
-        try {
-            validateParking(car);
-            this.parkedCar = car;
-            car.setParkingTime();
-            return true;
-        } catch (SlotOccupiedException | SlotTypeMismatchException e) {
+        if (!tryOccupy(car)) {
             return false;
         }
+        car.setParkingTime();
+        return true;
     }
     
     /**
@@ -92,15 +136,23 @@ public abstract class ParkingSlot implements IParkable, Serializable {
      */
     public void parkCarWithException(Car car) throws SlotOccupiedException, SlotTypeMismatchException {
         validateParking(car);
-        this.parkedCar = car;
+        if (!PARKED_CAR.compareAndSet(this, null, car)) {
+            throw new SlotOccupiedException(slotId);
+        }
         car.setParkingTime();
     }
     
     @Override
     public Car removeCar() {
-        Car removedCar = this.parkedCar;
-        this.parkedCar = null;
-        return removedCar;
+        while (true) {
+            Car current = parkedCar;
+            if (current == null || current == RETIRED) {
+                return null;
+            }
+            if (PARKED_CAR.compareAndSet(this, current, null)) {
+                return current;
+            }
+        }
     }
     
     /**
@@ -108,14 +160,22 @@ public abstract class ParkingSlot implements IParkable, Serializable {
      * @return Parking fee in dollars
      */
     public double calculateParkingFee() {
-        if (parkedCar == null || parkedCar.getParkingTime() == null) {
+        return calculateParkingFee(ParkingClock.currentTimeMillis());
+    }
+    
+    /**
+     * Calculates parking fee up to a given time without allocating
+     * @param nowMillis The time to bill to, in epoch milliseconds
+     * @return Parking fee in dollars
+     */
+    public double calculateParkingFee(long nowMillis) {
+        Car car = getParkedCar();
+        if (car == null) {
             return 0.0;
         }
         
-        long hours = parkedCar.getParkingDurationObject().toHours();
-        if (hours == 0) hours = 1; // Minimum 1 hour charge
-        
-        return hours * getHourlyRate();
+        // Minimum 1 hour charge
+        return car.getBillableHours(nowMillis) * getHourlyRate();
     }
     
     @Override
@@ -123,10 +183,11 @@ public abstract class ParkingSlot implements IParkable, Serializable {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("Slot %s [%s] - ", slotId, getSlotType()));
         
-        if (isOccupied()) {
+        Car car = getParkedCar();
+        if (car != null) {
             sb.append(String.format("OCCUPIED by %s (Owner: %s)", 
-                                  parkedCar.getRegistrationNumber(), 
-                                  parkedCar.getOwnerName()));
+                                  car.getRegistrationNumber(), 
+                                  car.getOwnerName()));
         } else {
             sb.append("EMPTY");
         }
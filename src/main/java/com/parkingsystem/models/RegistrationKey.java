@@ -0,0 +1,146 @@
+package com.parkingsystem.models;
+
+/**
+ * Registration plate packed into a long: 1 to 12 uppercase letters and
+ * digits, e.g. T1234 or KA01AB1234, as a bijective base-36 number. Every
+ * plate has exactly one key, including plates with leading zeros, and
+ * keys are always positive.
+ *
+ * CarPark indexes parked cars by this key, so plates are neither hashed
+ * nor compared as strings. Parsing never allocates.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public final class RegistrationKey {
+
+    /** Returned by parse for strings that are not plates */
+    public static final long NO_KEY = -1;
+
+    /** Longest plate that fits in a key */
+    public static final int MAX_LENGTH = 12;
+
+    private static final int RADIX = 36;
+    private static final int DIGITS = 10;
+
+    // FIRST_KEYS[n] is the key of the first plate of length n, "000...0"
+    private static final long[] FIRST_KEYS = new long[MAX_LENGTH + 2];
+
+    static {
+        for (int length = 1; length < FIRST_KEYS.length; length++) {
+            FIRST_KEYS[length] = FIRST_KEYS[length - 1] * RADIX + 1;
+        }
+    }
+
+    private final long packed;
+
+    private RegistrationKey(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Parses a plate
+     * @param registration The plate, e.g. KA01AB1234
+     * @return The key, or null if the string is not a plate
+     */
+    public static RegistrationKey valueOf(String registration) {
+        long packed = parse(registration);
+        return packed != NO_KEY ? new RegistrationKey(packed) : null;
+    }
+
+    /**
+     * Parses a plate without allocating
+     * @param registration The plate, e.g. KA01AB1234
+     * @return The key, or NO_KEY if the string is not a plate
+     */
+    public static long parse(CharSequence registration) {
+        if (registration == null || registration.length() == 0 || registration.length() > MAX_LENGTH) {
+            return NO_KEY;
+        }
+
+        long key = 0;
+        for (int i = 0; i < registration.length(); i++) {
+            int value = valueOf(registration.charAt(i));
+            if (value < 0) {
+                return NO_KEY;
+            }
+            key = key * RADIX + value + 1;
+        }
+        return key;
+    }
+
+    /** Value of a plate character, digits first, or -1 */
+    private static int valueOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return DIGITS + (c - 'A');
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of characters in a plate
+     * @param packed A key from parse
+     * @return The plate length
+     */
+    public static int lengthOf(long packed) {
+        int length = 0;
+        while (length <= MAX_LENGTH && packed >= FIRST_KEYS[length + 1]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Gets one character of a plate without decoding the rest
+     * @param packed A key from parse
+     * @param fromEnd Position counted from the last character, 0 being the last
+     * @return The character
+     */
+    public static char charAt(long packed, int fromEnd) {
+        long key = packed;
+        for (int i = 0; i < fromEnd; i++) {
+            key = (key - 1) / RADIX;
+        }
+        int value = (int) ((key - 1) % RADIX);
+        return (char) (value < DIGITS ? '0' + value : 'A' + value - DIGITS);
+    }
+
+    /**
+     * Formats a key as a plate
+     * @param packed A key from parse
+     * @return The plate
+     * @throws IllegalArgumentException if the key is not positive
+     */
+    public static String format(long packed) {
+        if (packed <= 0) {
+            throw new IllegalArgumentException("Invalid registration key: " + packed);
+        }
+
+        char[] chars = new char[lengthOf(packed)];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = charAt(packed, 0);
+            packed = (packed - 1) / RADIX;
+        }
+        return new String(chars);
+    }
+
+    public long toPacked() { return packed; }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof RegistrationKey && ((RegistrationKey) obj).packed == packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return format(packed);
+    }
+}
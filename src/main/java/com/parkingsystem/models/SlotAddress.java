@@ -0,0 +1,189 @@
+package com.parkingsystem.models;
+
+/**
+ * Hierarchical slot address for sites with several facilities, levels and
+ * zones: facility, level, zone letter and bay number, written as
+ * F{facility}-L{level}-{zone}{bay}, e.g. F1-L2-A147.
+ *
+ * An address packs into a non-negative long, which CarPark uses as the
+ * internal key for hierarchical slot IDs. Parsing and packing never
+ * allocate. Numbers are written without leading zeros, so every address
+ * has exactly one string form and one key.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public final class SlotAddress {
+
+    /** Returned by parse for strings that are not slot addresses */
+    public static final long NO_ADDRESS = -1;
+
+    public static final int MAX_FACILITY = 999;
+    public static final int MAX_LEVEL = 99;
+    public static final int MAX_BAY = 9999;
+
+    // Packed as facility | level | zone | bay, low bits last
+    private static final int BAY_BITS = 14;
+    private static final int ZONE_BITS = 5;
+    private static final int LEVEL_BITS = 7;
+    private static final int ZONE_SHIFT = BAY_BITS;
+    private static final int LEVEL_SHIFT = ZONE_SHIFT + ZONE_BITS;
+    private static final int FACILITY_SHIFT = LEVEL_SHIFT + LEVEL_BITS;
+
+    private final long packed;
+
+    private SlotAddress(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Creates an address
+     * @param facility Facility number, 0 to 999
+     * @param level Level number, 0 to 99
+     * @param zone Zone letter, A to Z
+     * @param bay Bay number, 0 to 9999
+     * @return The address
+     * @throws IllegalArgumentException if a part is out of range
+     */
+    public static SlotAddress of(int facility, int level, char zone, int bay) {
+        return new SlotAddress(pack(facility, level, zone, bay));
+    }
+
+    /**
+     * Parses a slot ID in address form
+     * @param slotId The slot ID, e.g. F1-L2-A147
+     * @return The address, or null if the ID is not in address form
+     */
+    public static SlotAddress valueOf(String slotId) {
+        long packed = parse(slotId);
+        return packed != NO_ADDRESS ? new SlotAddress(packed) : null;
+    }
+
+    /**
+     * Packs address parts into a key
+     * @throws IllegalArgumentException if a part is out of range
+     */
+    public static long pack(int facility, int level, char zone, int bay) {
+        if (facility < 0 || facility > MAX_FACILITY || level < 0 || level > MAX_LEVEL
+                || zone < 'A' || zone > 'Z' || bay < 0 || bay > MAX_BAY) {
+            throw new IllegalArgumentException(
+                String.format("Invalid slot address: facility %d, level %d, zone %c, bay %d", facility, level, zone, bay));
+        }
+        return (long) facility << FACILITY_SHIFT | (long) level << LEVEL_SHIFT
+                | (long) (zone - 'A') << ZONE_SHIFT | bay;
+    }
+
+    /**
+     * Parses a slot ID in address form without allocating
+     * @param slotId The slot ID, e.g. F1-L2-A147
+     * @return The packed key, or NO_ADDRESS if the ID is not in address form
+     */
+    public static long parse(CharSequence slotId) {
+        if (slotId == null || slotId.length() < 8 || slotId.charAt(0) != 'F') {
+            return NO_ADDRESS;
+        }
+
+        int length = slotId.length();
+        int i = 1;
+
+        int facilityEnd = numberEnd(slotId, i, 3);
+        if (facilityEnd < 0 || facilityEnd + 2 >= length
+                || slotId.charAt(facilityEnd) != '-' || slotId.charAt(facilityEnd + 1) != 'L') {
+            return NO_ADDRESS;
+        }
+        int facility = number(slotId, i, facilityEnd);
+
+        i = facilityEnd + 2;
+        int levelEnd = numberEnd(slotId, i, 2);
+        if (levelEnd < 0 || levelEnd + 2 >= length || slotId.charAt(levelEnd) != '-') {
+            return NO_ADDRESS;
+        }
+        int level = number(slotId, i, levelEnd);
+
+        char zone = slotId.charAt(levelEnd + 1);
+        if (zone < 'A' || zone > 'Z') {
+            return NO_ADDRESS;
+        }
+
+        i = levelEnd + 2;
+        if (numberEnd(slotId, i, 4) != length) {
+            return NO_ADDRESS;
+        }
+        int bay = number(slotId, i, length);
+
+        return pack(facility, level, zone, bay);
+    }
+
+    /**
+     * Finds the end of a run of at most maxDigits digits with no leading zero
+     * @return Index after the last digit, or -1 if there is no valid number
+     */
+    private static int numberEnd(CharSequence s, int start, int maxDigits) {
+        int end = start;
+        while (end < s.length() && end - start <= maxDigits) {
+            char c = s.charAt(end);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            end++;
+        }
+
+        int digits = end - start;
+        if (digits == 0 || digits > maxDigits || (digits > 1 && s.charAt(start) == '0')) {
+            return -1;
+        }
+        return end;
+    }
+
+    private static int number(CharSequence s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    public static int facilityOf(long packed) { return (int) (packed >>> FACILITY_SHIFT); }
+    public static int levelOf(long packed) { return (int) (packed >>> LEVEL_SHIFT) & ((1 << LEVEL_BITS) - 1); }
+    public static char zoneOf(long packed) { return (char) ('A' + ((packed >>> ZONE_SHIFT) & ((1 << ZONE_BITS) - 1))); }
+    public static int bayOf(long packed) { return (int) packed & ((1 << BAY_BITS) - 1); }
+
+    /**
+     * Formats a packed key as a slot ID
+     * @param packed A key from pack or parse
+     * @return The slot ID, e.g. F1-L2-A147
+     */
+    public static String format(long packed) {
+        return "F" + facilityOf(packed) + "-L" + levelOf(packed) + "-" + zoneOf(packed) + bayOf(packed);
+    }
+
+    // Getters
+    public int getFacility() { return facilityOf(packed); }
+    public int getLevel() { return levelOf(packed); }
+    public char getZone() { return zoneOf(packed); }
+    public int getBay() { return bayOf(packed); }
+    public long toPacked() { return packed; }
+
+    /**
+     * Gets the slot ID for this address
+     * @return The slot ID, e.g. F1-L2-A147
+     */
+    public String toSlotId() {
+        return format(packed);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof SlotAddress && ((SlotAddress) obj).packed == packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return format(packed);
+    }
+}
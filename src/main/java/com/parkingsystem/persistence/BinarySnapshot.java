@@ -0,0 +1,262 @@
+package com.parkingsystem.persistence;
+
+import com.parkingsystem.exceptions.ParkingException;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.StaffSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.CarParkSnapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot format, written with a FileChannel and loaded
+ * from a memory-mapped file.
+ *
+ * Layout, big-endian:
+ * <pre>
+ * header   magic "PKSN", version, record size, slot count,
+ *          string table offset, string count, saved-at epoch millis
+ * records  one fixed-width record per slot, in slot order
+ * strings  owner names, each stored once and referenced by index
+ * </pre>
+ * Each record holds the slot ID, flags, the owner name index (-1 for a car
+ * without an owner name), the registration and the parking time in epoch
+ * millis. The magic number sets binary files apart from JSON ones, so both
+ * formats can share a loader.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+final class BinarySnapshot {
+
+    static final int MAGIC = 0x504B534E; // "PKSN"
+    private static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int ID_WIDTH = 16;
+    private static final int RECORD_SIZE = ID_WIDTH + 1 + 3 + 4 + ID_WIDTH + 8;
+
+    private static final int STAFF_SLOT = 1;
+    private static final int OCCUPIED = 1 << 1;
+    private static final int STAFF_CAR = 1 << 2;
+
+    private static final int NO_OWNER = -1;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] PADDING = new byte[ID_WIDTH];
+
+    private BinarySnapshot() {}
+
+    /**
+     * Writes every slot of a car park snapshot to a binary snapshot file.
+     * The file is written beside the target, forced to disk and moved into
+     * place, so a crash never leaves a half-written snapshot.
+     * @param snapshot The snapshot to save
+     * @param file The file to write
+     * @throws IOException if the file cannot be written, or a slot ID or
+     *         registration is not ASCII or longer than 16 characters
+     */
+    static void write(CarParkSnapshot snapshot, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            writeTo(snapshot, temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private static void writeTo(CarParkSnapshot snapshot, Path file) throws IOException {
+        Map<String, Integer> ownerIndex = new HashMap<>();
+        List<String> owners = new ArrayList<>();
+        int slots = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            channel.position(HEADER_SIZE);
+
+            for (CarParkSnapshot.SlotRecord slot : snapshot.getSlots()) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(channel, buffer);
+                }
+
+                Car car = slot.getCar();
+                int flags = slot.isStaffSlot() ? STAFF_SLOT : 0;
+
+                putId(buffer, slot.getSlotId());
+                if (car == null) {
+                    buffer.put((byte) flags).put(PADDING, 0, 3).putInt(-1);
+                    buffer.put(PADDING).putLong(Car.NOT_PARKED);
+                } else {
+                    flags |= OCCUPIED | (car.isStaff() ? STAFF_CAR : 0);
+                    String ownerName = car.getOwnerName();
+                    Integer owner = ownerName != null ? ownerIndex.get(ownerName) : Integer.valueOf(NO_OWNER);
+                    if (owner == null) {
+                        owner = owners.size();
+                        ownerIndex.put(ownerName, owner);
+                        owners.add(ownerName);
+                    }
+
+                    buffer.put((byte) flags).put(PADDING, 0, 3).putInt(owner);
+                    putId(buffer, car.getRegistrationNumber());
+                    buffer.putLong(slot.getParkingTimeMillis());
+                }
+                slots++;
+            }
+            drain(channel, buffer);
+
+            long stringTable = channel.position();
+            for (String owner : owners) {
+                byte[] bytes = owner.getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < 4 + bytes.length) {
+                    drain(channel, buffer);
+                }
+                if (buffer.remaining() < 4 + bytes.length) {
+                    throw new IOException("Owner name too long for binary snapshot");
+                }
+                buffer.putInt(bytes.length).put(bytes);
+            }
+            drain(channel, buffer);
+
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE);
+            buffer.putInt(slots).putLong(stringTable).putInt(owners.size());
+            buffer.putLong(System.currentTimeMillis());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, HEADER_SIZE - buffer.remaining());
+            }
+            channel.force(true);
+        }
+    }
+
+    private static void putId(ByteBuffer buffer, String value) throws IOException {
+        int length = value.length();
+        if (length > ID_WIDTH) {
+            throw new IOException("Too long for binary snapshot: " + value);
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                throw new IOException("Not ASCII, cannot be stored in binary snapshot: " + value);
+            }
+            buffer.put((byte) c);
+        }
+        buffer.put(PADDING, 0, ID_WIDTH - length);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Checks whether a file starts with the binary snapshot magic number
+     * @param file The file to check
+     * @return true if the file is a binary snapshot
+     * @throws IOException if the file cannot be read
+     */
+    static boolean isBinarySnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // Keep reading until the magic number is complete or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Restores slots and parked cars from a binary snapshot into a car park.
+     * Parked cars keep their saved parking time.
+     * @param carPark The car park to restore into
+     * @param file The file to load
+     * @return Number of slots restored
+     * @throws IOException if the file is not a supported binary snapshot or is truncated
+     * @throws ParkingException if a slot or car conflicts with the car park's state
+     */
+    static int read(CarPark carPark, Path file) throws IOException, ParkingException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(carPark, data);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Truncated binary snapshot: " + file, e);
+        }
+    }
+
+    private static int read(CarPark carPark, ByteBuffer data) throws IOException, ParkingException {
+        if (data.getInt() != MAGIC) {
+            throw new IOException("Not a binary snapshot");
+        }
+        short version = data.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version);
+        }
+        int recordSize = data.getShort();
+        int slots = data.getInt();
+        long stringTable = data.getLong();
+        int stringCount = data.getInt();
+
+        // Owner names are decoded once and shared by every car that references them
+        String[] owners = new String[stringCount];
+        data.position(Math.toIntExact(stringTable));
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[data.getInt()];
+            data.get(bytes);
+            owners[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        byte[] id = new byte[ID_WIDTH];
+        for (int i = 0; i < slots; i++) {
+            int record = HEADER_SIZE + i * recordSize;
+            data.position(record);
+
+            String slotId = getId(data, id);
+            int flags = data.get();
+            data.position(data.position() + 3);
+            int owner = data.getInt();
+
+            // Saved slots were validated when first created, so they are rebuilt directly
+            carPark.addSlot((flags & STAFF_SLOT) != 0 ? new StaffSlot(slotId) : new VisitorSlot(slotId));
+
+            if ((flags & OCCUPIED) != 0) {
+                String registration = getId(data, id);
+                long parkedAt = data.getLong();
+
+                Car car = new Car(registration, owner != NO_OWNER ? owners[owner] : null, (flags & STAFF_CAR) != 0);
+                carPark.parkCar(slotId, car);
+                car.setParkingTimeMillis(parkedAt);
+            }
+        }
+
+        return slots;
+    }
+
+    private static String getId(ByteBuffer data, byte[] id) {
+        data.get(id);
+        int length = 0;
+        while (length < ID_WIDTH && id[length] != 0) {
+            length++;
+        }
+        return new String(id, 0, length, StandardCharsets.US_ASCII);
+    }
+}
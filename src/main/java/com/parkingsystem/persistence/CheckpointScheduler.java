@@ -0,0 +1,137 @@
+package com.parkingsystem.persistence;
+
+import com.parkingsystem.services.CarPark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes checkpoints of a car park on a background thread at a fixed
+ * interval. Each checkpoint copies the car park at a single moment with
+ * CarPark.takeSnapshot and then writes that copy, so gates never wait on
+ * disk I/O and never see a half-taken snapshot.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class CheckpointScheduler implements Closeable {
+
+    private final CarPark carPark;
+    private final DataPersistence persistence;
+    private final ParkingJournal journal;
+    private final String filename;
+    private final ScheduledExecutorService executor;
+
+    private volatile IOException lastError;
+    private volatile long lastCheckpointMillis;
+
+    /**
+     * Starts checkpointing a car park to the default file
+     * @param carPark The car park to checkpoint
+     * @param persistence Writes the snapshots
+     * @param journal The journal attached to the car park, trimmed after each checkpoint, or null
+     * @param intervalMillis Time between the end of one checkpoint and the start of the next
+     */
+    public CheckpointScheduler(CarPark carPark, DataPersistence persistence, ParkingJournal journal,
+                               long intervalMillis) {
+        this(carPark, persistence, journal, DataPersistence.DEFAULT_FILE, intervalMillis);
+    }
+
+    /**
+     * Starts checkpointing a car park
+     * @param carPark The car park to checkpoint
+     * @param persistence Writes the snapshots
+     * @param journal The journal attached to the car park, trimmed after each checkpoint, or null
+     * @param filename The snapshot file
+     * @param intervalMillis Time between the end of one checkpoint and the start of the next
+     */
+    public CheckpointScheduler(CarPark carPark, DataPersistence persistence, ParkingJournal journal,
+                               String filename, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+
+        this.carPark = carPark;
+        this.persistence = persistence;
+        this.journal = journal;
+        this.filename = filename;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parking-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::checkpointQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a checkpoint on the background thread and waits for it
+     * @throws IOException if the checkpoint fails
+     */
+    public void checkpointNow() throws IOException {
+        Future<?> done = executor.submit(() -> {
+            checkpoint();
+            return null;
+        });
+
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for checkpoint", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Checkpoint failed", e.getCause());
+        }
+    }
+
+    private void checkpoint() throws IOException {
+        try {
+            persistence.checkpoint(carPark, journal, filename);
+            lastCheckpointMillis = System.currentTimeMillis();
+            lastError = null;
+        } catch (IOException e) {
+            lastError = e;
+            throw e;
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            // Kept in lastError; the next scheduled checkpoint tries again
+        }
+    }
+
+    /**
+     * Gets the error from the last checkpoint, if it failed
+     * @return The error, or null if the last checkpoint succeeded
+     */
+    public IOException getLastError() { return lastError; }
+
+    /**
+     * Gets when the last successful checkpoint finished
+     * @return Epoch millis, or 0 if none has finished yet
+     */
+    public long getLastCheckpointMillis() { return lastCheckpointMillis; }
+
+    /**
+     * Stops scheduling checkpoints, letting one already running finish
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
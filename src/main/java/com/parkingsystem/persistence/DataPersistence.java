@@ -1,26 +1,47 @@
 package com.parkingsystem.persistence;
 
 import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.CarParkSnapshot;
+import com.parkingsystem.models.Car;
 import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.StaffSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.exceptions.ParkingException;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 /**
  * Handles data persistence for the parking system.
  * Supports JSON format for human-readable storage.
  * 
+ * The streaming methods read and write the same JSON layout one slot at a
+ * time, so very large facilities are saved and restored without building
+ * an intermediate object tree. A compact binary snapshot format is also
+ * supported for facilities where JSON parsing dominates startup time.
+ * 
  * @author [Your Name]
  * @version 1.0
  */
 public class DataPersistence {
     
-    private static final String DEFAULT_FILE = "parking_data.json";
+    static final String DEFAULT_FILE = "parking_data.json";
+    private static final String FORMAT_VERSION = "2.0";
+    private static final DateTimeFormatter PARKING_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private final Gson gson;
     
     public DataPersistence() {
@@ -77,7 +98,284 @@ public class DataPersistence {
      * @throws IOException if save fails
      */
     public void save(CarPark carPark) throws IOException {
-        saveToFile(carPark, DEFAULT_FILE);
+        saveToFileStreaming(carPark, DEFAULT_FILE, false);
+    }
+    
+    /**
+     * Saves the car park data to JSON file, writing one slot at a time
+     * from a point-in-time snapshot of the car park
+     * @param carPark The car park to save
+     * @param filename The file to save to
+     * @param compact true to omit indentation and line breaks
+     * @throws IOException if save fails
+     */
+    public void saveToFileStreaming(CarPark carPark, String filename, boolean compact) throws IOException {
+        saveToFileStreaming(carPark.takeSnapshot(), filename, compact);
+    }
+    
+    /**
+     * Saves a car park snapshot to JSON file, writing one slot at a time
+     * @param snapshot The snapshot to save
+     * @param filename The file to save to
+     * @param compact true to omit indentation and line breaks
+     * @throws IOException if save fails
+     */
+    public void saveToFileStreaming(CarParkSnapshot snapshot, String filename, boolean compact) throws IOException {
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(Paths.get(filename), StandardCharsets.UTF_8))) {
+            writer.setIndent(compact ? "" : "  ");
+            
+            writer.beginObject();
+            writer.name("version").value(FORMAT_VERSION);
+            writer.name("savedAt").value(LocalDateTime.now().toString());
+            writer.name("totalSlots").value(snapshot.getTotalSlots());
+            writer.name("occupiedSlots").value(snapshot.getOccupiedCount());
+            
+            writer.name("slots").beginArray();
+            for (CarParkSnapshot.SlotRecord slot : snapshot.getSlots()) {
+                writeSlot(writer, slot);
+            }
+            writer.endArray();
+            
+            writer.endObject();
+        }
+    }
+    
+    /**
+     * Saves the car park data to a compact binary snapshot file.
+     * Slot IDs and registrations must be ASCII and at most 16 characters.
+     * @param carPark The car park to save
+     * @param filename The file to save to
+     * @throws IOException if save fails
+     */
+    public void saveToBinaryFile(CarPark carPark, String filename) throws IOException {
+        saveToBinaryFile(carPark.takeSnapshot(), filename);
+    }
+    
+    /**
+     * Saves a car park snapshot to a compact binary snapshot file
+     * @param snapshot The snapshot to save
+     * @param filename The file to save to
+     * @throws IOException if save fails
+     */
+    public void saveToBinaryFile(CarParkSnapshot snapshot, String filename) throws IOException {
+        BinarySnapshot.write(snapshot, Paths.get(filename));
+    }
+    
+    /**
+     * Writes a snapshot to the default file and discards the journal
+     * segments it covers
+     * @param carPark The car park to save
+     * @param journal The journal attached to the car park
+     * @throws IOException if the snapshot or journal cannot be written
+     */
+    public void checkpoint(CarPark carPark, ParkingJournal journal) throws IOException {
+        checkpoint(carPark, journal, DEFAULT_FILE);
+    }
+    
+    /**
+     * Writes a snapshot and discards the journal segments it covers.
+     * The journal is rolled first, so every change made after the snapshot
+     * is kept in the new segment and replayed after it. The snapshot is
+     * written beside the target and moved into place, so a crash never
+     * leaves a half-written snapshot.
+     * @param carPark The car park to save
+     * @param journal The journal attached to the car park, or null
+     * @param filename The snapshot file
+     * @throws IOException if the snapshot or journal cannot be written
+     */
+    public void checkpoint(CarPark carPark, ParkingJournal journal, String filename) throws IOException {
+        int covered = journal != null ? journal.rollSegment() : 0;
+        CarParkSnapshot snapshot = carPark.takeSnapshot();
+        
+        Path target = Paths.get(filename);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        saveToFileStreaming(snapshot, temp.toString(), false);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        
+        if (journal != null) {
+            journal.deleteSegmentsThrough(covered);
+        }
+    }
+    
+    private static void writeSlot(JsonWriter writer, CarParkSnapshot.SlotRecord slot) throws IOException {
+        Car car = slot.getCar();
+        
+        writer.beginObject();
+        writer.name("slotId").value(slot.getSlotId());
+        writer.name("slotType").value(slot.getSlotType());
+        writer.name("isOccupied").value(car != null);
+        
+        if (car != null) {
+            LocalDateTime parkingTime = slot.getParkingTime();
+            
+            writer.name("car").beginObject();
+            writer.name("registrationNumber").value(car.getRegistrationNumber());
+            writer.name("ownerName").value(car.getOwnerName());
+            writer.name("isStaff").value(car.isStaff());
+            writer.name("parkingTime").value(parkingTime != null ? PARKING_TIME_FORMAT.format(parkingTime) : "Not parked");
+            writer.endObject();
+        }
+        
+        writer.endObject();
+    }
+    
+    /**
+     * Restores the car park from the default file
+     * @param carPark The car park to restore into
+     * @return Number of slots restored
+     * @throws IOException if the file cannot be read or is malformed
+     * @throws ParkingException if a slot or car conflicts with the car park's state
+     */
+    public int load(CarPark carPark) throws IOException, ParkingException {
+        return loadIntoCarPark(carPark, DEFAULT_FILE);
+    }
+    
+    /**
+     * Restores slots and parked cars from a JSON file into a car park,
+     * reading one slot at a time. Parked cars keep their saved parking time.
+     * Fields may appear in any order, so files written by saveToFile load too.
+     * Binary snapshots are recognised by their header and loaded directly.
+     * If restoring into an empty car park fails part way, it is cleared again
+     * rather than left half restored.
+     * @param carPark The car park to restore into
+     * @param filename The file to load from
+     * @return Number of slots restored
+     * @throws IOException if the file cannot be read or is malformed
+     * @throws ParkingException if a slot or car conflicts with the car park's state
+     */
+    public int loadIntoCarPark(CarPark carPark, String filename) throws IOException, ParkingException {
+        boolean wasEmpty = carPark.getTotalSlots() == 0;
+        try {
+            if (BinarySnapshot.isBinarySnapshot(Paths.get(filename))) {
+                return BinarySnapshot.read(carPark, Paths.get(filename));
+            }
+            return readSlots(carPark, filename);
+        } catch (IOException | ParkingException | RuntimeException e) {
+            if (wasEmpty) {
+                carPark.clear();
+            }
+            throw e;
+        }
+    }
+    
+    private static int readSlots(CarPark carPark, String filename) throws IOException, ParkingException {
+        int restored = 0;
+        
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("slots")) {
+                    reader.skipValue();
+                    continue;
+                }
+                
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readSlot(reader, carPark);
+                    restored++;
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        }
+        
+        return restored;
+    }
+    
+    private static void readSlot(JsonReader reader, CarPark carPark) throws IOException, ParkingException {
+        String slotId = null;
+        String slotType = null;
+        String registration = null;
+        String ownerName = null;
+        boolean isStaff = false;
+        String parkingTime = null;
+        
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "slotId": slotId = reader.nextString(); break;
+                case "slotType": slotType = reader.nextString(); break;
+                case "car":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "registrationNumber": registration = reader.nextString(); break;
+                            case "ownerName": ownerName = reader.nextString(); break;
+                            case "isStaff": isStaff = reader.nextBoolean(); break;
+                            case "parkingTime": parkingTime = reader.nextString(); break;
+                            default: reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                default: reader.skipValue();
+            }
+        }
+        reader.endObject();
+        
+        if (slotId == null || slotType == null) {
+            throw new IOException("Slot record is missing slotId or slotType at " + reader.getPath());
+        }
+        
+        // Saved slots were validated when first created, so they are rebuilt directly
+        carPark.addSlot("Staff".equals(slotType) ? new StaffSlot(slotId) : new VisitorSlot(slotId));
+        
+        if (registration != null) {
+            Car car = new Car(registration, ownerName, isStaff);
+            carPark.parkCar(slotId, car);
+            car.setParkingTime(parseParkingTime(parkingTime));
+        }
+    }
+    
+    /**
+     * Parses a saved "yyyy-MM-dd HH:mm:ss" parking time. The fixed-width form
+     * is decoded digit by digit, which is much cheaper than a DateTimeFormatter
+     * when restoring large facilities; anything else falls back to the formatter.
+     */
+    private static LocalDateTime parseParkingTime(String value) throws IOException {
+        if (value == null || value.equals("Not parked")) {
+            return null;
+        }
+        
+        if (value.length() == 19 && value.charAt(4) == '-' && value.charAt(7) == '-'
+                && value.charAt(10) == ' ' && value.charAt(13) == ':' && value.charAt(16) == ':') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 2);
+            int day = digits(value, 8, 2);
+            int hour = digits(value, 11, 2);
+            int minute = digits(value, 14, 2);
+            int second = digits(value, 17, 2);
+            
+            if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0) {
+                try {
+                    return LocalDateTime.of(year, month, day, hour, minute, second);
+                } catch (DateTimeException e) {
+                    throw new IOException("Invalid parking time: " + value, e);
+                }
+            }
+        }
+        
+        try {
+            return LocalDateTime.parse(value, PARKING_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Invalid parking time: " + value, e);
+        }
+    }
+    
+    /**
+     * Decodes a run of ASCII digits
+     * @return The value, or -1 if any character is not a digit
+     */
+    private static int digits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
     }
     
     /**
@@ -102,6 +400,14 @@ public class DataPersistence {
         return new File(filename).exists();
     }
     
+    /**
+     * Checks if the default save file exists
+     * @return true if file exists
+     */
+    public boolean saveFileExists() {
+        return saveFileExists(DEFAULT_FILE);
+    }
+    
     /**
      * Custom adapter for LocalDateTime serialization
      */
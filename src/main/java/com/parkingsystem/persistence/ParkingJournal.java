@@ -0,0 +1,610 @@
+package com.parkingsystem.persistence;
+
+import com.parkingsystem.exceptions.ParkingException;
+import com.parkingsystem.interfaces.IParkingEventListener;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.models.StaffSlot;
+import com.parkingsystem.models.VisitorSlot;
+import com.parkingsystem.services.CarPark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead journal of car park changes.
+ *
+ * Attached to a CarPark as a listener, it encodes every slot and car change
+ * as a compact binary record in memory. A background thread writes the
+ * records gathered since its last run and forces them to disk together
+ * (group commit), so a gate operation only pays for an in-memory append.
+ * Changes are durable within one commit interval, or immediately after flush.
+ *
+ * Records are written to numbered segment files. A checkpoint rolls to a new
+ * segment, writes a snapshot and then deletes the segments it covers; on
+ * startup, replay re-applies the remaining segments on top of that snapshot.
+ * Each record is framed with its length and a CRC32, so a record torn by a
+ * crash ends replay of its segment instead of corrupting the car park.
+ *
+ * A failed write is retried on the next flush: the unwritten records are
+ * kept, the segment is cut back to its last good length, and the error is
+ * cleared once a write succeeds. If the disk keeps failing until more than
+ * MAX_PENDING_BYTES are waiting, the journal stops buffering and every flush
+ * fails until the next checkpoint, whose snapshot covers what was dropped.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class ParkingJournal implements IParkingEventListener, Closeable {
+
+    private static final String DEFAULT_NAME = "parking_journal";
+    private static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 5;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final byte SLOT_ADDED = 1;
+    private static final byte SLOT_REMOVED = 2;
+    private static final byte CAR_PARKED = 3;
+    private static final byte CAR_REMOVED = 4;
+
+    // String length prefix that stands for null, e.g. a car without an owner name
+    private static final int NULL_STRING = -1;
+
+    // Records held back by a failing disk above which they are dropped
+    private static final int MAX_PENDING_BYTES = 16 * 1024 * 1024;
+
+    // Length and CRC32 of the payload
+    private static final int FRAME_HEADER = 8;
+
+    private final Path directory;
+    private final String name;
+    private final ScheduledExecutorService flusher;
+    private final Object flushLock = new Object();
+    private final CRC32 crc = new CRC32();
+
+    // Records appended since the last flush; swapped with spare on each flush
+    private byte[] buffer = new byte[64 * 1024];
+    private int size;
+    private byte[] spare = new byte[64 * 1024];
+
+    private FileChannel channel;
+    private int segment;
+    // Length of the current segment up to the last forced write
+    private long committed;
+    private volatile IOException lastError;
+    // Records have been dropped since the last roll; guarded by this
+    private boolean overflowed;
+    private boolean closed;
+
+    /**
+     * Opens a journal in the working directory with the default commit interval
+     * @throws IOException if the segment file cannot be created
+     */
+    public ParkingJournal() throws IOException {
+        this(Paths.get("."), DEFAULT_NAME, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens a journal, starting a new segment after any existing ones
+     * @param directory Directory holding the segment files
+     * @param name Segment file name prefix
+     * @param commitIntervalMillis How often buffered records are forced to disk
+     * @throws IOException if the segment file cannot be created
+     */
+    public ParkingJournal(Path directory, String name, long commitIntervalMillis) throws IOException {
+        if (commitIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Commit interval must be positive");
+        }
+
+        this.directory = directory;
+        this.name = name;
+
+        // A crash may have torn the last segment, so it is never appended to
+        List<Integer> existing = listSegments(directory, name);
+        this.segment = existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1;
+        this.channel = openSegment(segment);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parking-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, commitIntervalMillis,
+                                       commitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== Recording ====================
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        synchronized (this) {
+            int start = beginRecord(SLOT_ADDED);
+            putString(slot.getSlotId());
+            putByte(slot instanceof StaffSlot ? 1 : 0);
+            endRecord(start);
+        }
+    }
+
+    @Override
+    public void onSlotRemoved(ParkingSlot slot) {
+        synchronized (this) {
+            int start = beginRecord(SLOT_REMOVED);
+            putString(slot.getSlotId());
+            endRecord(start);
+        }
+    }
+
+    @Override
+    public void onCarParked(ParkingSlot slot, Car car) {
+        synchronized (this) {
+            int start = beginRecord(CAR_PARKED);
+            putString(slot.getSlotId());
+            putString(car.getRegistrationNumber());
+            putString(car.getOwnerName());
+            putByte(car.isStaff() ? 1 : 0);
+            putLong(car.getParkingTimeMillis());
+            endRecord(start);
+        }
+    }
+
+    @Override
+    public void onCarRemoved(ParkingSlot slot, Car car) {
+        synchronized (this) {
+            int start = beginRecord(CAR_REMOVED);
+            putString(car.getRegistrationNumber());
+            endRecord(start);
+        }
+    }
+
+    private int beginRecord(byte type) {
+        int start = size;
+        ensureCapacity(FRAME_HEADER + 1);
+        size += FRAME_HEADER;
+        buffer[size++] = type;
+        return start;
+    }
+
+    private void endRecord(int start) {
+        if (overflowed || (size > MAX_PENDING_BYTES && lastError != null)) {
+            // The disk is failing and memory is not unbounded; the next checkpoint recovers
+            overflowed = true;
+            size = 0;
+            return;
+        }
+
+        int payload = start + FRAME_HEADER;
+        int length = size - payload;
+
+        crc.reset();
+        crc.update(buffer, payload, length);
+        writeInt(buffer, start, length);
+        writeInt(buffer, start + 4, (int) crc.getValue());
+    }
+
+    private void putByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    private void putInt(int value) {
+        ensureCapacity(4);
+        writeInt(buffer, size, value);
+        size += 4;
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+
+    /**
+     * Writes a UTF-8 string with an int length prefix, or NULL_STRING for
+     * null. Registrations and slot IDs are ASCII, so they are copied char by
+     * char without encoding to a new array.
+     */
+    private void putString(String value) {
+        if (value == null) {
+            putInt(NULL_STRING);
+            return;
+        }
+
+        int length = value.length();
+        ensureCapacity(4 + length);
+
+        int start = size;
+        size += 4;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                size = start;
+                putBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buffer[size++] = (byte) c;
+        }
+        writeInt(buffer, start, length);
+    }
+
+    private void putBytes(byte[] bytes) {
+        putInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    // ==================== Group Commit ====================
+
+    /**
+     * Writes and forces all records appended so far, including any a
+     * previous flush failed to write
+     * @throws IOException if the journal cannot be written, or has dropped
+     *         records since the last checkpoint
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            writePending();
+            synchronized (this) {
+                if (overflowed) {
+                    throw new IOException("Journal dropped records after repeated write failures; "
+                                          + "a checkpoint is needed", lastError);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current segment. On failure they
+     * are put back in front of the records appended meanwhile, and the
+     * segment is cut back to its committed length before the next attempt,
+     * so a partial write never leaves a torn record ahead of the retry.
+     * Must hold flushLock.
+     */
+    private void writePending() throws IOException {
+        byte[] pending;
+        int length;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            pending = buffer;
+            length = size;
+            buffer = spare;
+            size = 0;
+        }
+        if (length == 0) {
+            spare = pending;
+            return;
+        }
+
+        try {
+            if (lastError != null) {
+                channel.truncate(committed);
+                channel.position(committed);
+            }
+            ByteBuffer data = ByteBuffer.wrap(pending, 0, length);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            lastError = e;
+            requeue(pending, length);
+            throw e;
+        }
+
+        committed += length;
+        lastError = null;
+        spare = pending;
+    }
+
+    /**
+     * Puts records that failed to write back ahead of those appended since
+     */
+    private synchronized void requeue(byte[] pending, int length) {
+        if (overflowed) {
+            // Dropped meanwhile; the next checkpoint covers them too
+            spare = pending;
+            return;
+        }
+        if (length + size > pending.length) {
+            pending = Arrays.copyOf(pending, length + size);
+        }
+        System.arraycopy(buffer, 0, pending, length, size);
+        spare = buffer;
+        buffer = pending;
+        size += length;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            // Retried on the next run; flush and checkpoint callers see the error
+        }
+    }
+
+    /**
+     * Flushes and closes the current segment and starts the next one.
+     * Records appended from now on go to the new segment. If records were
+     * dropped, nothing is flushed and buffering resumes in the new segment,
+     * since the snapshot taken next covers everything before it.
+     * @return Number of the last segment closed
+     * @throws IOException if the journal cannot be written
+     */
+    public int rollSegment() throws IOException {
+        synchronized (flushLock) {
+            boolean dropped;
+            synchronized (this) {
+                dropped = overflowed;
+            }
+            if (!dropped) {
+                writePending();
+            }
+
+            synchronized (this) {
+                int finished = segment;
+                FileChannel next = openSegment(finished + 1);
+                channel.close();
+                channel = next;
+                segment = finished + 1;
+                committed = 0;
+                lastError = null;
+                if (overflowed) {
+                    overflowed = false;
+                    size = 0;
+                }
+                return finished;
+            }
+        }
+    }
+
+    /**
+     * Deletes segments that a snapshot has made redundant
+     * @param lastSegment Number of the last segment to delete
+     * @return Number of segment files deleted
+     * @throws IOException if a segment cannot be deleted
+     */
+    public int deleteSegmentsThrough(int lastSegment) throws IOException {
+        int deleted = 0;
+        for (int number : listSegments(directory, name)) {
+            if (number <= lastSegment && Files.deleteIfExists(segmentPath(directory, name, number))) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Stops the background flusher, then flushes and closes the journal
+     * @throws IOException if the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        synchronized (flushLock) {
+            try {
+                flush();
+            } finally {
+                synchronized (this) {
+                    closed = true;
+                }
+                channel.close();
+            }
+        }
+    }
+
+    private FileChannel openSegment(int number) throws IOException {
+        return FileChannel.open(segmentPath(directory, name, number),
+                                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * Replays the journal in the working directory into a car park
+     * @param carPark The car park to replay into, normally just restored from a snapshot
+     * @return Number of records replayed
+     * @throws IOException if a segment cannot be read
+     * @throws ParkingException if a record conflicts with the car park's state
+     */
+    public static int replay(CarPark carPark) throws IOException, ParkingException {
+        return replay(Paths.get("."), DEFAULT_NAME, carPark);
+    }
+
+    /**
+     * Re-applies every intact record, oldest segment first. Each record sets
+     * the state of the slot or car it names, so records already reflected in
+     * the snapshot are harmless to apply again. A torn or corrupt record ends
+     * its segment, since nothing after it in that file can be trusted. Replay
+     * then carries on with the next segment: a crash can only tear the tail
+     * of the segment being written, and the journal opened after the restart
+     * writes to a new segment.
+     * The journal must not be attached to the car park during replay.
+     * @param directory Directory holding the segment files
+     * @param name Segment file name prefix
+     * @param carPark The car park to replay into
+     * @return Number of records replayed
+     * @throws IOException if a segment cannot be read
+     * @throws ParkingException if a record conflicts with the car park's state
+     */
+    public static int replay(Path directory, String name, CarPark carPark) throws IOException, ParkingException {
+        int replayed = 0;
+        CRC32 checksum = new CRC32();
+
+        segments:
+        for (int number : listSegments(directory, name)) {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segmentPath(directory, name, number)));
+
+            while (data.remaining() >= FRAME_HEADER) {
+                int length = data.getInt();
+                int expected = data.getInt();
+                if (length <= 0 || length > data.remaining()) {
+                    continue segments;
+                }
+
+                checksum.reset();
+                checksum.update(data.array(), data.position(), length);
+                if ((int) checksum.getValue() != expected) {
+                    continue segments;
+                }
+
+                ByteBuffer record = data.slice();
+                record.limit(length);
+                data.position(data.position() + length);
+
+                apply(record, carPark);
+                replayed++;
+            }
+        }
+
+        return replayed;
+    }
+
+    private static void apply(ByteBuffer record, CarPark carPark) throws ParkingException {
+        byte type = record.get();
+        switch (type) {
+            case SLOT_ADDED: {
+                String slotId = getString(record);
+                boolean staff = record.get() != 0;
+                if (carPark.findSlotById(slotId) == null) {
+                    carPark.addSlot(newSlot(slotId, staff));
+                }
+                break;
+            }
+            case SLOT_REMOVED: {
+                ParkingSlot slot = carPark.findSlotById(getString(record));
+                if (slot != null) {
+                    Car occupant = slot.getParkedCar();
+                    if (occupant != null) {
+                        carPark.removeCarSafe(occupant.getRegistrationNumber());
+                    }
+                    carPark.removeSlot(slot.getSlotId());
+                }
+                break;
+            }
+            case CAR_PARKED: {
+                String slotId = getString(record);
+                String registration = getString(record);
+                String ownerName = getString(record);
+                boolean staff = record.get() != 0;
+                long parkingTimeMillis = record.getLong();
+                replayPark(carPark, slotId, new Car(registration, ownerName, staff), parkingTimeMillis);
+                break;
+            }
+            case CAR_REMOVED:
+                carPark.removeCarSafe(getString(record));
+                break;
+            default:
+                // Written by a newer version; skipped so the rest still replays
+        }
+    }
+
+    private static void replayPark(CarPark carPark, String slotId, Car car, long parkingTimeMillis)
+            throws ParkingException {
+        String registration = car.getRegistrationNumber();
+
+        ParkingSlot current = carPark.findCarByRegistration(registration);
+        if (current != null && current.getSlotId().equals(slotId)) {
+            current.getParkedCar().setParkingTimeMillis(parkingTimeMillis);
+            return;
+        }
+        if (current != null) {
+            carPark.removeCarSafe(registration);
+        }
+
+        ParkingSlot slot = carPark.findSlotById(slotId);
+        if (slot == null) {
+            carPark.addSlot(newSlot(slotId, car.isStaff()));
+        } else if (slot.getParkedCar() != null) {
+            carPark.removeCarSafe(slot.getParkedCar().getRegistrationNumber());
+        }
+
+        carPark.parkCar(slotId, car);
+        car.setParkingTimeMillis(parkingTimeMillis);
+    }
+
+    // Journaled slots were validated when first created, so they are rebuilt directly
+    private static ParkingSlot newSlot(String slotId, boolean staff) {
+        return staff ? new StaffSlot(slotId) : new VisitorSlot(slotId);
+    }
+
+    private static String getString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        String value = new String(record.array(), record.arrayOffset() + record.position(),
+                                  length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return value;
+    }
+
+    // ==================== Segment Files ====================
+
+    private static Path segmentPath(Path directory, String name, int number) {
+        return directory.resolve(String.format("%s.%06d%s", name, number, SEGMENT_SUFFIX));
+    }
+
+    private static List<Integer> listSegments(Path directory, String name) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return numbers;
+        }
+
+        String prefix = name + ".";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String number = fileName.substring(prefix.length(), fileName.length() - SEGMENT_SUFFIX.length());
+                try {
+                    numbers.add(Integer.parseInt(number));
+                } catch (NumberFormatException e) {
+                    // Not a segment of this journal
+                }
+            }
+        }
+
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    /**
+     * Checks whether any journal segments exist in the working directory
+     * @return true if there are segments to replay
+     */
+    public static boolean exists() {
+        try {
+            return !listSegments(Paths.get("."), DEFAULT_NAME).isEmpty();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,58 +1,193 @@
 package com.parkingsystem.services;
 
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.interfaces.IParkingEventListener;
 import com.parkingsystem.interfaces.ISearchable;
 import com.parkingsystem.models.*;
 import com.parkingsystem.exceptions.*;
 import com.parkingsystem.factory.ParkingSlotFactory;
+import com.parkingsystem.factory.ParkingSlotFactory.SlotType;
+import com.parkingsystem.utils.KeyCodec;
+import com.parkingsystem.utils.ParkingClock;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 import java.io.Serializable;
 
 /**
  * Singleton service class managing the car park operations.
  * Demonstrates Singleton Design Pattern.
- * Uses HashMap for O(1) lookups.
+ * Uses O(1) lookups: slot IDs and registrations in canonical form are
+ * packed into int keys that index arrays directly, hierarchical slot
+ * addresses and other plate formats are packed into long keys of a
+ * primitive hash table, and other keys fall back to a ConcurrentHashMap.
+ * 
+ * All operations are safe to call from multiple threads without external
+ * locking. Slot occupancy is claimed with compare-and-set on the slot itself
+ * and car registrations are claimed with putIfAbsent, so parkCar, removeCar,
+ * addSlot and removeSlot are linearizable. Each change briefly holds the
+ * monitor of the affected slot's entry while it notifies listeners, so
+ * operations on different slots never block each other.
+ * 
+ * Each operation is also offered as a try* method returning a
+ * ParkingOutcome, so callers that expect failures, such as gate retries
+ * or journal replay, never create exceptions. The checked-exception and
+ * *Safe methods are thin wrappers over them.
+ * 
+ * Free slots are also kept in a pool per slot type so that parkAnywhere
+ * can hand out a slot in constant time instead of scanning the car park.
+ * Total and occupied counts per slot type are maintained incrementally,
+ * so statistics are O(1) and never iterate the slots.
+ * 
+ * takeSnapshot copies the car park as it was at a single moment without
+ * pausing gates: while a snapshot is in progress, a change to a slot that
+ * has not been copied yet also saves the slot's previous state.
  * 
  * @author [Your Name]
- * @version 2.0
+ * @version 2.1
  */
 public class CarPark implements ISearchable, Serializable {
     
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+    
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+    
+    // Occupancy counters are packed as (total << 32) + occupied per slot type
+    private static final long TOTAL_UNIT = 1L << 32;
+    private static final long OCCUPIED_UNIT = 1L;
+    
+    // Removed slots left in a pool above which it is purged, at the least
+    private static final int STALE_POOL_THRESHOLD = 64;
+    
+    // Occupied slots above which evaluateFees() runs in parallel
+    private static final int PARALLEL_FEE_THRESHOLD = 10_000;
+    
+    // Returned by parkFromPool when the car's registration is already taken
+    private static final SlotEntry REGISTRATION_TAKEN = new SlotEntry(new VisitorSlot(""), 0);
+    
+    // Singleton instance; volatile so getInstance can read it without locking
+    private static volatile CarPark instance;
     
-    // Singleton instance
-    private static CarPark instance;
+    // O(1) slot lookups by ID, array-indexed for canonical IDs
+    private final KeyIndex<SlotEntry> slotMap;
     
-    // Use HashMap for O(1) slot lookups by ID
-    private final Map<String, ParkingSlot> slotMap;
+    // Slots keyed by insertion sequence so listings keep insertion order
+    private final ConcurrentSkipListMap<Long, ParkingSlot> slotOrder;
     
-    // Use HashMap for O(1) car lookups by registration
-    private final Map<String, ParkingSlot> carToSlotMap;
+    // O(1) car lookups by registration, array-indexed for canonical registrations
+    private final KeyIndex<SlotEntry> carToSlotMap;
+    
+    // Free slot pools per slot type for O(1) allocation
+    private final Map<SlotType, Queue<SlotEntry>> freeSlots;
+    
+    // Removed slots still in each pool, indexed by SlotType ordinal; approximate
+    private final AtomicIntegerArray stalePooled;
+    
+    // Packed total/occupied counters indexed by SlotType ordinal
+    private final AtomicLongArray occupancy;
+    
+    private final AtomicLong slotSequence;
+    
+    // Copy-on-write array so notification does not allocate an iterator
+    private volatile IParkingEventListener[] listeners;
+    
+    // Snapshot in progress, or null
+    private transient volatile SnapshotCapture capture;
+    
+    // Lets takeSnapshot wait for addSlot calls that started before it
+    private final ReentrantReadWriteLock provisioningLock;
+    
+    // Claims a registration beyond this car park before a car is parked, or null
+    private final transient Predicate<String> registrationClaim;
     
     /**
-     * Private constructor for Singleton pattern
+     * Constructor for the singleton
      */
-    private CarPark() {
-        this.slotMap = new LinkedHashMap<>(); // Maintains insertion order
-        this.carToSlotMap = new HashMap<>();
+    CarPark() {
+        this(null);
     }
     
     /**
-     * Gets the singleton instance of CarPark
+     * Constructor for FacilityRegistry, which hosts further independent car
+     * parks alongside the singleton and keeps registrations unique across them
+     * @param registrationClaim Claims a registration outside this car park,
+     *        returning false if it is held elsewhere; null for no claim
+     */
+    CarPark(Predicate<String> registrationClaim) {
+        this.slotMap = new KeyIndex<>(KeyCodec.SLOT_ID);
+        this.slotOrder = new ConcurrentSkipListMap<>(); // Maintains insertion order
+        this.carToSlotMap = new KeyIndex<>(KeyCodec.REGISTRATION);
+        this.freeSlots = new EnumMap<>(SlotType.class);
+        for (SlotType type : SlotType.values()) {
+            freeSlots.put(type, new ConcurrentLinkedQueue<>());
+        }
+        this.stalePooled = new AtomicIntegerArray(SLOT_TYPES.length);
+        this.occupancy = new AtomicLongArray(SLOT_TYPES.length);
+        this.slotSequence = new AtomicLong();
+        this.listeners = new IParkingEventListener[0];
+        this.provisioningLock = new ReentrantReadWriteLock();
+        this.registrationClaim = registrationClaim;
+    }
+    
+    /**
+     * Gets the singleton instance of CarPark.
+     * Once created, the instance is returned with a single volatile read,
+     * so callers on any number of threads never contend. Only the first
+     * call after startup or resetInstance takes the class lock.
      * @return The CarPark instance
      */
-    public static synchronized CarPark getInstance() {
-        if (instance == null) {
-            instance = new CarPark();
+    public static CarPark getInstance() {
+        CarPark current = instance;
+        if (current != null) {
+            return current;
+        }
+        
+        synchronized (CarPark.class) {
+            if (instance == null) {
+                instance = new CarPark();
+            }
+            return instance;
         }
-        return instance;
     }
     
     /**
      * Resets the singleton instance (useful for testing)
      */
-    public static synchronized void resetInstance() {
-        instance = null;
+    public static void resetInstance() {
+        synchronized (CarPark.class) {
+            instance = null;
+        }
+    }
+    
+    /**
+     * Registers a listener for slot and car changes
+     * @param listener The listener to add
+     */
+    public synchronized void addListener(IParkingEventListener listener) {
+        IParkingEventListener[] current = listeners;
+        IParkingEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+    
+    /**
+     * Unregisters a listener
+     * @param listener The listener to remove
+     */
+    public synchronized void removeListener(IParkingEventListener listener) {
+        List<IParkingEventListener> updated = new ArrayList<>(Arrays.asList(listeners));
+        updated.remove(listener);
+        listeners = updated.toArray(new IParkingEventListener[0]);
     }
     
     /**
@@ -61,10 +196,87 @@ public class CarPark implements ISearchable, Serializable {
      * @throws DuplicateSlotException if slot ID already exists
      */
     public void addSlot(ParkingSlot slot) throws DuplicateSlotException {
-        if (slotMap.containsKey(slot.getSlotId())) {
+        if (tryAddSlot(slot) != ParkingOutcome.SUCCESS) {
             throw new DuplicateSlotException(slot.getSlotId());
         }
-        slotMap.put(slot.getSlotId(), slot);
+    }
+    
+    /**
+     * Adds a parking slot without throwing
+     * @param slot The parking slot to add
+     * @return SUCCESS, or DUPLICATE_SLOT if the slot ID already exists
+     */
+    public ParkingOutcome tryAddSlot(ParkingSlot slot) {
+        // Held until the slot is announced, so no change to it is reported first
+        provisioningLock.readLock().lock();
+        try {
+            return register(slot, slotSequence.incrementAndGet());
+        } finally {
+            provisioningLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Adds many slots in one pass, e.g. a whole level from
+     * ParkingSlotFactory.createLevels. The index is sized for the batch up
+     * front and sequence numbers are reserved in one step, so the slots
+     * are listed in the given order. Each slot is added with the same
+     * guarantees as tryAddSlot; a duplicate does not stop the rest.
+     * @param slots The slots to add
+     * @return The outcome for each slot, in the same order
+     */
+    public ParkingOutcome[] addSlots(List<? extends ParkingSlot> slots) {
+        ParkingOutcome[] outcomes = new ParkingOutcome[slots.size()];
+        slotMap.reserve(slots.size());
+        long sequence = slotSequence.getAndAdd(slots.size());
+        
+        provisioningLock.readLock().lock();
+        try {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = register(slots.get(i), ++sequence);
+            }
+        } finally {
+            provisioningLock.readLock().unlock();
+        }
+        return outcomes;
+    }
+    
+    /**
+     * Publishes a slot and announces it; the caller holds the provisioning read lock
+     * @return SUCCESS, or DUPLICATE_SLOT if the slot ID already exists
+     */
+    private ParkingOutcome register(ParkingSlot slot, long sequence) {
+        // A slot removed earlier stays retired until it is registered again
+        boolean wasRetired = slot.isRetired();
+        slot.reinstate();
+        
+        SlotEntry entry = new SlotEntry(slot, sequence);
+        synchronized (entry) {
+            // Counters are raised before publishing and lowered after unpublishing,
+            // so a concurrent reader never sees more occupied than total slots
+            count(entry.type, TOTAL_UNIT);
+            if (slotMap.putIfAbsent(slot.getSlotId(), entry) != null) {
+                count(entry.type, -TOTAL_UNIT);
+                if (wasRetired) {
+                    slot.tryRetire();
+                }
+                return ParkingOutcome.DUPLICATE_SLOT;
+            }
+            
+            // A slot added during a snapshot is left out of it
+            SnapshotCapture current = capture;
+            if (current != null) {
+                entry.captured = current;
+            }
+            
+            slotOrder.put(entry.sequence, slot);
+            
+            for (IParkingEventListener listener : listeners) {
+                listener.onSlotAdded(slot);
+            }
+            release(entry);
+        }
+        return ParkingOutcome.SUCCESS;
     }
     
     /**
@@ -73,12 +285,7 @@ public class CarPark implements ISearchable, Serializable {
      * @return true if added successfully
      */
     public boolean addSlotSafe(ParkingSlot slot) {
-        try {
-            addSlot(slot);
-            return true;
-        } catch (DuplicateSlotException e) {
-            return false;
-        }
+        return tryAddSlot(slot).isSuccess();
     }
     
     /**
@@ -88,17 +295,37 @@ public class CarPark implements ISearchable, Serializable {
      * @throws SlotOccupiedException if slot is occupied
      */
     public void removeSlot(String slotId) throws SlotNotFoundException, SlotOccupiedException {
-        ParkingSlot slot = slotMap.get(slotId);
-        
-        if (slot == null) {
-            throw new SlotNotFoundException(slotId);
+        switch (tryRemoveSlot(slotId)) {
+            case SUCCESS:
+                return;
+            case SLOT_OCCUPIED:
+                throw new SlotOccupiedException(slotId);
+            default:
+                throw new SlotNotFoundException(slotId);
         }
+    }
+    
+    /**
+     * Removes a parking slot by ID without throwing
+     * @param slotId The ID of the slot to remove
+     * @return SUCCESS, SLOT_NOT_FOUND or SLOT_OCCUPIED
+     */
+    public ParkingOutcome tryRemoveSlot(String slotId) {
+        SlotEntry entry = slotMap.get(slotId);
         
-        if (slot.isOccupied()) {
-            throw new SlotOccupiedException(slotId);
+        if (entry == null) {
+            return ParkingOutcome.SLOT_NOT_FOUND;
         }
         
-        slotMap.remove(slotId);
+        synchronized (entry) {
+            // Retiring the slot first stops concurrent parkCar calls from claiming it
+            if (!entry.slot.tryRetire()) {
+                return entry.slot.isRetired() ? ParkingOutcome.SLOT_NOT_FOUND : ParkingOutcome.SLOT_OCCUPIED;
+            }
+            
+            unregister(entry);
+        }
+        return ParkingOutcome.SUCCESS;
     }
     
     /**
@@ -107,33 +334,71 @@ public class CarPark implements ISearchable, Serializable {
      * @return true if removed successfully
      */
     public boolean removeSlotSafe(String slotId) {
-        try {
-            removeSlot(slotId);
-            return true;
-        } catch (ParkingException e) {
-            return false;
-        }
+        return tryRemoveSlot(slotId).isSuccess();
     }
     
     @Override
     public ParkingSlot findSlotById(String slotId) {
-        return slotMap.get(slotId);
+        SlotEntry entry = slotMap.get(slotId);
+        return entry != null ? entry.slot : null;
     }
     
     @Override
     public ParkingSlot findCarByRegistration(String registrationNumber) {
-        return carToSlotMap.get(registrationNumber);
+        SlotEntry entry = carToSlotMap.get(registrationNumber);
+        return entry != null ? entry.slot : null;
+    }
+    
+    /**
+     * Finds a slot by its packed ID, skipping string encoding
+     * @param slotKey A key from KeyCodec.SLOT_ID
+     * @return The slot, or null if not found
+     */
+    public ParkingSlot findSlotByKey(int slotKey) {
+        SlotEntry entry = slotMap.get(slotKey);
+        return entry != null ? entry.slot : null;
+    }
+    
+    /**
+     * Finds a slot by its packed hierarchical address, without allocating
+     * @param address A key from SlotAddress.pack or SlotAddress.parse
+     * @return The slot, or null if not found
+     */
+    public ParkingSlot findSlotByAddress(long address) {
+        SlotEntry entry = slotMap.getWide(address);
+        return entry != null ? entry.slot : null;
+    }
+    
+    /**
+     * Finds the slot a car is parked in by its packed registration
+     * @param registrationKey A key from KeyCodec.REGISTRATION
+     * @return The slot, or null if the car is not parked
+     */
+    public ParkingSlot findCarByKey(int registrationKey) {
+        SlotEntry entry = carToSlotMap.get(registrationKey);
+        return entry != null ? entry.slot : null;
+    }
+    
+    /**
+     * Finds the slot a car is parked in by its registration plate key,
+     * without allocating
+     * @param registrationKey A key from RegistrationKey.parse
+     * @return The slot, or null if the car is not parked
+     */
+    public ParkingSlot findCarByRegistrationKey(long registrationKey) {
+        SlotEntry entry = carToSlotMap.getWide(registrationKey);
+        return entry != null ? entry.slot : null;
     }
     
     @Override
     public List<ParkingSlot> getAllSlots() {
-        return new ArrayList<>(slotMap.values());
+        return new ArrayList<>(slotOrder.values());
     }
     
     @Override
     public List<ParkingSlot> getAvailableSlots() {
         List<ParkingSlot> available = new ArrayList<>();
-        for (ParkingSlot slot : slotMap.values()) {
+        for (ParkingSlot slot : slotOrder.values()) {
             if (!slot.isOccupied()) {
                 available.add(slot);
             }
@@ -144,7 +409,7 @@ public class CarPark implements ISearchable, Serializable {
     @Override
     public List<ParkingSlot> getOccupiedSlots() {
         List<ParkingSlot> occupied = new ArrayList<>();
-        for (ParkingSlot slot : slotMap.values()) {
+        for (ParkingSlot slot : slotOrder.values()) {
             if (slot.isOccupied()) {
                 occupied.add(slot);
             }
@@ -152,6 +417,39 @@ public class CarPark implements ISearchable, Serializable {
         return occupied;
     }
     
+    @Override
+    public Collection<ParkingSlot> getAllSlotsView() {
+        return Collections.unmodifiableCollection(slotOrder.values());
+    }
+    
+    @Override
+    public Stream<ParkingSlot> streamAvailableSlots() {
+        return slotOrder.values().stream().filter(slot -> !slot.isOccupied());
+    }
+    
+    @Override
+    public Stream<ParkingSlot> streamOccupiedSlots() {
+        return slotOrder.values().stream().filter(ParkingSlot::isOccupied);
+    }
+    
+    @Override
+    public void forEachAvailableSlot(Consumer<? super ParkingSlot> action) {
+        for (ParkingSlot slot : slotOrder.values()) {
+            if (!slot.isOccupied()) {
+                action.accept(slot);
+            }
+        }
+    }
+    
+    @Override
+    public void forEachOccupiedSlot(Consumer<? super ParkingSlot> action) {
+        for (ParkingSlot slot : slotOrder.values()) {
+            if (slot.isOccupied()) {
+                action.accept(slot);
+            }
+        }
+    }
+    
     /**
      * Parks a car in the specified slot
      * @param slotId The slot ID
@@ -164,18 +462,55 @@ public class CarPark implements ISearchable, Serializable {
     public void parkCar(String slotId, Car car) throws SlotNotFoundException, 
             SlotOccupiedException, SlotTypeMismatchException, DuplicateCarException {
         
+        switch (tryParkCar(slotId, car)) {
+            case SUCCESS:
+                return;
+            case DUPLICATE_CAR:
+                throw new DuplicateCarException(car.getRegistrationNumber());
+            case SLOT_OCCUPIED:
+                throw new SlotOccupiedException(slotId);
+            case SLOT_TYPE_MISMATCH:
+                throw new SlotTypeMismatchException(slotId, !car.isStaff(), car.isStaff());
+            default:
+                throw new SlotNotFoundException(slotId);
+        }
+    }
+    
+    /**
+     * Parks a car in the specified slot without throwing
+     * @param slotId The slot ID
+     * @param car The car to park
+     * @return SUCCESS, DUPLICATE_CAR, SLOT_NOT_FOUND, SLOT_OCCUPIED or SLOT_TYPE_MISMATCH
+     */
+    public ParkingOutcome tryParkCar(String slotId, Car car) {
         // Check if car is already parked
         if (carToSlotMap.containsKey(car.getRegistrationNumber())) {
-            throw new DuplicateCarException(car.getRegistrationNumber());
+            return ParkingOutcome.DUPLICATE_CAR;
         }
         
-        ParkingSlot slot = slotMap.get(slotId);
-        if (slot == null) {
-            throw new SlotNotFoundException(slotId);
+        SlotEntry entry = slotMap.get(slotId);
+        if (entry == null) {
+            return ParkingOutcome.SLOT_NOT_FOUND;
         }
         
-        slot.parkCarWithException(car);
-        carToSlotMap.put(car.getRegistrationNumber(), slot);
+        ParkingSlot slot = entry.slot;
+        synchronized (entry) {
+            if (!slot.tryOccupy(car)) {
+                // Diagnosed after the fact; an occupied slot is reported before a type mismatch
+                if (slot.isRetired()) {
+                    return ParkingOutcome.SLOT_NOT_FOUND;
+                }
+                if (!slot.isOccupied() && slot.isStaffSlot() != car.isStaff()) {
+                    return ParkingOutcome.SLOT_TYPE_MISMATCH;
+                }
+                return ParkingOutcome.SLOT_OCCUPIED;
+            }
+            
+            if (!claimRegistration(entry, car)) {
+                return ParkingOutcome.DUPLICATE_CAR;
+            }
+        }
+        return ParkingOutcome.SUCCESS;
     }
     
     /**
@@ -185,12 +520,117 @@ public class CarPark implements ISearchable, Serializable {
      * @return true if parked successfully
      */
     public boolean parkCarSafe(String slotId, Car car) {
-        try {
-            parkCar(slotId, car);
-            return true;
-        } catch (ParkingException e) {
+        return tryParkCar(slotId, car).isSuccess();
+    }
+    
+    /**
+     * Parks a car in any free slot matching the car's type.
+     * Slots are taken from the free pool for that type in O(1) amortized time.
+     * @param car The car to park
+     * @return The slot the car was parked in
+     * @throws NoAvailableSlotException if no free slot of the car's type is left
+     * @throws DuplicateCarException if car is already parked
+     */
+    public ParkingSlot parkAnywhere(Car car) throws NoAvailableSlotException, DuplicateCarException {
+        SlotEntry entry = parkFromPool(car);
+        if (entry == null) {
+            throw new NoAvailableSlotException(car.isStaff());
+        }
+        if (entry == REGISTRATION_TAKEN) {
+            throw new DuplicateCarException(car.getRegistrationNumber());
+        }
+        return entry.slot;
+    }
+    
+    /**
+     * Parks a car in any free slot matching the car's type without throwing
+     * @param car The car to park
+     * @return SUCCESS, DUPLICATE_CAR or NO_AVAILABLE_SLOT
+     */
+    public ParkingOutcome tryParkAnywhere(Car car) {
+        SlotEntry entry = parkFromPool(car);
+        if (entry == null) {
+            return ParkingOutcome.NO_AVAILABLE_SLOT;
+        }
+        return entry == REGISTRATION_TAKEN ? ParkingOutcome.DUPLICATE_CAR : ParkingOutcome.SUCCESS;
+    }
+    
+    /**
+     * Takes a slot from the free pool for the car's type and parks the car in it
+     * @param car The car to park
+     * @return The slot entry, REGISTRATION_TAKEN if the car is already parked,
+     *         or null if no free slot is left
+     */
+    private SlotEntry parkFromPool(Car car) {
+        if (carToSlotMap.containsKey(car.getRegistrationNumber())) {
+            return REGISTRATION_TAKEN;
+        }
+        
+        Queue<SlotEntry> pool = freeSlots.get(car.isStaff() ? SlotType.STAFF : SlotType.VISITOR);
+        SlotEntry entry;
+        while ((entry = pool.poll()) != null) {
+            entry.pooled.set(false);
+            
+            synchronized (entry) {
+                // Entries for removed slots, or slots taken directly through parkCar,
+                // are dropped here instead of being searched for on every change
+                if (entry.removed || !entry.slot.tryOccupy(car)) {
+                    continue;
+                }
+                
+                return claimRegistration(entry, car) ? entry : REGISTRATION_TAKEN;
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Maps a car's registration to the slot it has just been placed in,
+     * starts its stay and announces it, or backs the car out if the
+     * registration is taken.
+     * The registration is claimed after the slot so that a mapped car is
+     * always visible in its slot, and the external claim, if any, after the
+     * local one so that it is only taken by a car that is actually parked.
+     * The parking time is only set once both claims hold, so a rejected car
+     * that is parked elsewhere keeps its time. Must hold the entry's monitor.
+     * @param entry The slot entry the car is parked in
+     * @param car The parked car
+     * @return true if the registration was claimed
+     */
+    private boolean claimRegistration(SlotEntry entry, Car car) {
+        String registration = car.getRegistrationNumber();
+        count(entry.type, OCCUPIED_UNIT);
+        if (carToSlotMap.putIfAbsent(registration, entry) != null) {
+            count(entry.type, -OCCUPIED_UNIT);
+            entry.slot.removeCar();
+            release(entry);
+            return false;
+        }
+        if (registrationClaim != null && !registrationClaim.test(registration)) {
+            carToSlotMap.remove(registration, entry);
+            count(entry.type, -OCCUPIED_UNIT);
+            entry.slot.removeCar();
+            release(entry);
             return false;
         }
+        
+        car.setParkingTime();
+        preserve(entry, null);
+        for (IParkingEventListener listener : listeners) {
+            listener.onCarParked(entry.slot, car);
+        }
+        return true;
+    }
+    
+    /**
+     * Parks a car in any free slot (returns slot or null for backward compatibility)
+     * @param car The car to park
+     * @return The slot the car was parked in, or null
+     */
+    public ParkingSlot parkAnywhereSafe(Car car) {
+        SlotEntry entry = parkFromPool(car);
+        return entry != null && entry != REGISTRATION_TAKEN ? entry.slot : null;
     }
     
     /**
@@ -200,28 +640,117 @@ public class CarPark implements ISearchable, Serializable {
      * @throws CarNotFoundException if car is not found
      */
     public Car removeCar(String registrationNumber) throws CarNotFoundException {
-        ParkingSlot slot = carToSlotMap.get(registrationNumber);
-        
-        if (slot == null) {
+        Car removedCar = removeParkedCar(registrationNumber);
+        if (removedCar == null) {
             throw new CarNotFoundException(registrationNumber);
         }
-        
-        Car removedCar = slot.removeCar();
-        carToSlotMap.remove(registrationNumber);
         return removedCar;
     }
     
+    /**
+     * Removes a car by registration number without throwing
+     * @param registrationNumber The registration to remove
+     * @return SUCCESS or CAR_NOT_FOUND
+     */
+    public ParkingOutcome tryRemoveCar(String registrationNumber) {
+        return removeParkedCar(registrationNumber) != null ? ParkingOutcome.SUCCESS : ParkingOutcome.CAR_NOT_FOUND;
+    }
+    
+    /**
+     * Removes a parked car and frees its slot
+     * @param registrationNumber The registration to remove
+     * @return The removed car, or null if it is not parked
+     */
+    private Car removeParkedCar(String registrationNumber) {
+        SlotEntry entry = carToSlotMap.get(registrationNumber);
+        if (entry == null) {
+            return null;
+        }
+        
+        synchronized (entry) {
+            // Only the holder of the entry's monitor may remove its mappings
+            if (carToSlotMap.get(registrationNumber) != entry) {
+                return null;
+            }
+            
+            // Preserved before announcing, so a checkpoint that rolls the journal
+            // past this removal's record also sees the car gone in its snapshot
+            Car parkedCar = entry.slot.getParkedCar();
+            preserve(entry, parkedCar);
+            
+            // Announce before the registration is released, so a re-park of the
+            // same car in another slot is always reported after this removal
+            for (IParkingEventListener listener : listeners) {
+                listener.onCarRemoved(entry.slot, parkedCar);
+            }
+            
+            carToSlotMap.remove(registrationNumber, entry);
+            count(entry.type, -OCCUPIED_UNIT);
+            Car removedCar = entry.slot.removeCar();
+            release(entry);
+            return removedCar;
+        }
+    }
+    
     /**
      * Removes a car (returns Car or null for backward compatibility)
      * @param registrationNumber The registration to remove
      * @return The removed car or null
      */
     public Car removeCarSafe(String registrationNumber) {
-        try {
-            return removeCar(registrationNumber);
-        } catch (CarNotFoundException e) {
-            return null;
+        return removeParkedCar(registrationNumber);
+    }
+    
+    /**
+     * Convenience method that calls tryParkCar for each arrival in order,
+     * e.g. for entries buffered by a gate controller. Nothing is thrown,
+     * so one bad read does not hold up the rest. This is not a bulk
+     * operation: it costs the same as calling tryParkCar in a loop.
+     * @param arrivals Slot ID and car pairs, e.g. Map.entry("S01", car)
+     * @return The outcome for each arrival, in the same order
+     */
+    public ParkingOutcome[] tryParkEach(List<? extends Map.Entry<String, Car>> arrivals) {
+        ParkingOutcome[] outcomes = new ParkingOutcome[arrivals.size()];
+        int i = 0;
+        for (Map.Entry<String, Car> arrival : arrivals) {
+            outcomes[i++] = tryParkCar(arrival.getKey(), arrival.getValue());
+        }
+        return outcomes;
+    }
+    
+    /**
+     * Convenience method that removes each registration in order
+     * @param registrations The registrations to remove
+     * @return The outcome for each registration, in the same order
+     */
+    public ParkingOutcome[] tryRemoveEach(List<String> registrations) {
+        return tryRemoveEach(registrations, null);
+    }
+    
+    /**
+     * Convenience method that removes each registration in order,
+     * collecting the removed cars so their fees can be settled. Costs the
+     * same as calling removeCarSafe in a loop.
+     * @param registrations The registrations to remove
+     * @param removedCars Filled with the removed car, or null, for each
+     *        registration; may be null if the cars are not needed
+     * @return The outcome for each registration, in the same order
+     */
+    public ParkingOutcome[] tryRemoveEach(List<String> registrations, Car[] removedCars) {
+        if (removedCars != null && removedCars.length < registrations.size()) {
+            throw new IllegalArgumentException("Removed cars array is shorter than the registrations list");
+        }
+        
+        ParkingOutcome[] outcomes = new ParkingOutcome[registrations.size()];
+        int i = 0;
+        for (String registration : registrations) {
+            Car removed = removeParkedCar(registration);
+            if (removedCars != null) {
+                removedCars[i] = removed;
+            }
+            outcomes[i++] = removed != null ? ParkingOutcome.SUCCESS : ParkingOutcome.CAR_NOT_FOUND;
         }
+        return outcomes;
     }
     
     /**
@@ -229,31 +758,327 @@ public class CarPark implements ISearchable, Serializable {
      * @return Number of slots removed
      */
     public int removeAllUnoccupiedSlots() {
-        List<String> toRemove = new ArrayList<>();
+        int removed = 0;
         
-        for (ParkingSlot slot : slotMap.values()) {
-            if (!slot.isOccupied()) {
-                toRemove.add(slot.getSlotId());
+        for (ParkingSlot slot : slotOrder.values()) {
+            SlotEntry entry = slotMap.get(slot.getSlotId());
+            if (entry == null || entry.slot != slot) {
+                continue;
+            }
+            
+            synchronized (entry) {
+                if (slot.tryRetire()) {
+                    unregister(entry);
+                    removed++;
+                }
             }
         }
         
-        for (String slotId : toRemove) {
-            slotMap.remove(slotId);
+        return removed;
+    }
+    
+    /**
+     * Announces and removes a retired slot from the lookup and ordering
+     * structures. Any pooled reference to it is discarded the next time it is
+     * polled, or when removed slots outnumber the live ones of its type and
+     * the pool is purged, so churn cannot grow the pool without bound.
+     * Must hold the entry's monitor.
+     * @param entry The slot entry to remove
+     */
+    private void unregister(SlotEntry entry) {
+        // A slot removed during a snapshot is still in it; its copy is taken
+        // before it leaves slotOrder, so the snapshot cannot miss it, and
+        // before it is announced, so the journal record is never older
+        SnapshotCapture current = capture;
+        if (current != null && entry.captured != current) {
+            entry.captured = current;
+            current.removed.add(current.recordOf(entry));
+        }
+        
+        // Announce before the ID is released, so a re-added slot is reported after
+        for (IParkingEventListener listener : listeners) {
+            listener.onSlotRemoved(entry.slot);
         }
         
-        return toRemove.size();
+        entry.removed = true;
+        slotMap.remove(entry.slot.getSlotId(), entry);
+        slotOrder.remove(entry.sequence, entry.slot);
+        count(entry.type, -TOTAL_UNIT);
+        
+        if (entry.pooled.get()) {
+            int ordinal = entry.type.ordinal();
+            int stale = stalePooled.incrementAndGet(ordinal);
+            if (stale > Math.max(STALE_POOL_THRESHOLD, getTotalSlots(entry.type))) {
+                // The purge is linear in the pool, which is now mostly stale, so it is amortized
+                stalePooled.set(ordinal, 0);
+                freeSlots.get(entry.type).removeIf(candidate -> candidate.removed);
+            }
+        }
+    }
+    
+    /**
+     * Saves a slot's previous state for the snapshot in progress, unless the
+     * snapshot has already copied it. Must hold the entry's monitor.
+     * Changes that release a registration or slot ID call this just before
+     * the release and changes that claim one just after the claim, so a
+     * change the snapshot includes never depends on one it leaves out.
+     * Either way it runs before listeners hear of the change: a checkpoint
+     * rolls the journal before it starts a snapshot, so a change journaled
+     * in a segment the checkpoint deletes must be complete in its snapshot.
+     * @param entry The slot entry that changed
+     * @param previousCar The car parked in the slot before the change, or null
+     */
+    private void preserve(SlotEntry entry, Car previousCar) {
+        SnapshotCapture current = capture;
+        if (current != null && entry.captured != current) {
+            current.preserved.putIfAbsent(entry, new CarParkSnapshot.SlotRecord(entry.sequence, entry.slot, previousCar));
+        }
     }
     
+    /**
+     * Takes a consistent point-in-time copy of all slots and parked cars.
+     * Gates keep running while the copy is made; the only cost to them is
+     * saving a slot's previous state the first time it changes during the
+     * copy. Nothing is written to disk here, so the snapshot can be
+     * persisted afterwards on any thread.
+     * @return The snapshot, slots in insertion order
+     */
+    public synchronized CarParkSnapshot takeSnapshot() {
+        SnapshotCapture current = new SnapshotCapture();
+        
+        // Waits for addSlot calls that did not see the capture to be ordered
+        provisioningLock.writeLock().lock();
+        try {
+            capture = current;
+        } finally {
+            provisioningLock.writeLock().unlock();
+        }
+        long takenAt = System.currentTimeMillis();
+        
+        List<CarParkSnapshot.SlotRecord> records = new ArrayList<>(getTotalSlots());
+        try {
+            for (Map.Entry<Long, ParkingSlot> ordered : slotOrder.entrySet()) {
+                SlotEntry entry = slotMap.get(ordered.getValue().getSlotId());
+                if (entry == null || entry.sequence != ordered.getKey()) {
+                    continue; // Removed, and recorded by unregister if after the capture began
+                }
+                
+                synchronized (entry) {
+                    if (entry.captured == current) {
+                        continue;
+                    }
+                    entry.captured = current;
+                    CarParkSnapshot.SlotRecord before = current.preserved.remove(entry);
+                    records.add(before != null ? before : SnapshotCapture.record(entry));
+                }
+            }
+        } finally {
+            capture = null;
+        }
+        
+        if (!current.removed.isEmpty()) {
+            records.addAll(current.removed);
+            records.sort(Comparator.comparingLong(record -> record.sequence));
+        }
+        return new CarParkSnapshot(records, takenAt);
+    }
+    
+    /**
+     * Returns a free slot to its type's pool unless it is already pooled
+     * @param entry The slot entry to release
+     */
+    private void release(SlotEntry entry) {
+        if (!entry.removed && entry.pooled.compareAndSet(false, true)) {
+            freeSlots.get(entry.type).offer(entry);
+        }
+    }
+    
+    /**
+     * Applies a delta to the packed occupancy counter of a slot type
+     * @param type The slot type
+     * @param delta Multiple of TOTAL_UNIT and/or OCCUPIED_UNIT
+     */
+    private void count(SlotType type, long delta) {
+        occupancy.addAndGet(type.ordinal(), delta);
+    }
+    
+    private static int totalOf(long packed) { return (int) ((packed - occupiedOf(packed)) >> 32); }
+    private static int occupiedOf(long packed) { return (int) packed; }
+    
     // Statistics methods
-    public int getTotalSlots() { return slotMap.size(); }
-    public int getOccupiedCount() { return carToSlotMap.size(); }
-    public int getAvailableCount() { return slotMap.size() - carToSlotMap.size(); }
+    public int getTotalSlots() {
+        int total = 0;
+        for (SlotType type : SLOT_TYPES) total += getTotalSlots(type);
+        return total;
+    }
+    
+    public int getOccupiedCount() {
+        int occupied = 0;
+        for (SlotType type : SLOT_TYPES) occupied += getOccupiedCount(type);
+        return occupied;
+    }
+    
+    public int getAvailableCount() {
+        int available = 0;
+        for (SlotType type : SLOT_TYPES) available += getAvailableCount(type);
+        return available;
+    }
+    
+    public int getTotalSlots(SlotType type) { return totalOf(occupancy.get(type.ordinal())); }
+    public int getOccupiedCount(SlotType type) { return occupiedOf(occupancy.get(type.ordinal())); }
+    
+    public int getAvailableCount(SlotType type) {
+        long packed = occupancy.get(type.ordinal());
+        return totalOf(packed) - occupiedOf(packed);
+    }
+    
+    /**
+     * Gets the number of entries in a slot type's free pool, including
+     * occupied or removed slots not yet dropped from it. Linear in the
+     * pool size, so meant for monitoring rather than hot paths.
+     * @param type The slot type
+     * @return Number of pooled entries
+     */
+    public int getPooledCount(SlotType type) {
+        return freeSlots.get(type).size();
+    }
+    
+    /**
+     * Copies the live occupancy counters into a caller-owned snapshot.
+     * Runs in O(1) and allocates nothing, so it is safe to poll frequently.
+     * @param snapshot The snapshot to fill
+     * @return The same snapshot, for chaining
+     */
+    public OccupancySnapshot readOccupancy(OccupancySnapshot snapshot) {
+        for (SlotType type : SLOT_TYPES) {
+            long packed = occupancy.get(type.ordinal());
+            snapshot.set(type, totalOf(packed), occupiedOf(packed));
+        }
+        return snapshot;
+    }
     
     /**
-     * Clears all data (useful for testing)
+     * Evaluates outstanding fees at each slot's own rate, as of now.
+     * Large car parks are evaluated in parallel.
+     * @return Total and per slot type fees
+     */
+    public FeeSummary evaluateFees() {
+        return evaluateFees(null, ParkingClock.currentTimeMillis(), getOccupiedCount() >= PARALLEL_FEE_THRESHOLD);
+    }
+    
+    /**
+     * Evaluates outstanding fees for every parked car in one pass, billing
+     * every car to the same timestamp
+     * @param calculator The fee strategy to apply, or null for each slot's own rate
+     * @param nowMillis The time to bill to, in epoch milliseconds
+     * @param parallel true to split the slots across the common fork-join pool
+     * @return Total and per slot type fees
+     */
+    public FeeSummary evaluateFees(IFeeCalculator calculator, long nowMillis, boolean parallel) {
+        if (parallel) {
+            return slotOrder.values().parallelStream().collect(
+                () -> new FeeSummary(nowMillis),
+                (summary, slot) -> addFee(summary, slot, calculator, nowMillis),
+                FeeSummary::merge);
+        }
+        
+        FeeSummary summary = new FeeSummary(nowMillis);
+        for (ParkingSlot slot : slotOrder.values()) {
+            addFee(summary, slot, calculator, nowMillis);
+        }
+        return summary;
+    }
+    
+    private static void addFee(FeeSummary summary, ParkingSlot slot, IFeeCalculator calculator, long nowMillis) {
+        // Read the car once so a concurrent removal cannot split the evaluation
+        Car car = slot.getParkedCar();
+        if (car == null) {
+            return;
+        }
+        
+        double fee = calculator != null
+            ? calculator.calculateFee(car, nowMillis)
+            : car.getBillableHours(nowMillis) * slot.getHourlyRate();
+        summary.add(slot, fee);
+    }
+    
+    /**
+     * Clears all data (useful for testing and failed restores).
+     * Each parked car and slot is announced as removed first, so listeners
+     * such as the journal, an OverstayMonitor or an OccupancyEventStream
+     * do not keep cars that are no longer here.
      */
     public void clear() {
+        IParkingEventListener[] current = listeners;
+        if (current.length > 0) {
+            for (ParkingSlot slot : slotOrder.values()) {
+                SlotEntry entry = slotMap.get(slot.getSlotId());
+                if (entry == null) {
+                    continue;
+                }
+                
+                synchronized (entry) {
+                    Car car = slot.getParkedCar();
+                    for (IParkingEventListener listener : current) {
+                        if (car != null) {
+                            listener.onCarRemoved(slot, car);
+                        }
+                        listener.onSlotRemoved(slot);
+                    }
+                }
+            }
+        }
+        
         slotMap.clear();
+        slotOrder.clear();
         carToSlotMap.clear();
+        for (Queue<SlotEntry> pool : freeSlots.values()) {
+            pool.clear();
+        }
+        for (SlotType type : SLOT_TYPES) {
+            occupancy.set(type.ordinal(), 0);
+            stalePooled.set(type.ordinal(), 0);
+        }
+    }
+    
+    /**
+     * A registered slot together with its insertion sequence number
+     * and free pool bookkeeping
+     */
+    private static final class SlotEntry implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
+        private final ParkingSlot slot;
+        private final SlotType type;
+        private final long sequence;
+        private final AtomicBoolean pooled = new AtomicBoolean();
+        private volatile boolean removed;
+        
+        // Last snapshot that copied this slot; guarded by the entry's monitor
+        private transient SnapshotCapture captured;
+        
+        SlotEntry(ParkingSlot slot, long sequence) {
+            this.slot = slot;
+            this.type = slot.isStaffSlot() ? SlotType.STAFF : SlotType.VISITOR;
+            this.sequence = sequence;
+        }
+    }
+    
+    /**
+     * State of a snapshot in progress: previous states of slots that changed
+     * before they were copied, and copies of slots removed during it
+     */
+    private static final class SnapshotCapture {
+        private final Map<SlotEntry, CarParkSnapshot.SlotRecord> preserved = new ConcurrentHashMap<>();
+        private final Queue<CarParkSnapshot.SlotRecord> removed = new ConcurrentLinkedQueue<>();
+        
+        CarParkSnapshot.SlotRecord recordOf(SlotEntry entry) {
+            CarParkSnapshot.SlotRecord before = preserved.remove(entry);
+            return before != null ? before : record(entry);
+        }
+        
+        static CarParkSnapshot.SlotRecord record(SlotEntry entry) {
+            return new CarParkSnapshot.SlotRecord(entry.sequence, entry.slot, entry.slot.getParkedCar());
+        }
     }
 }
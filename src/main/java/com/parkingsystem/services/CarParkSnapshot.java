@@ -0,0 +1,84 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.utils.ParkingClock;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable point-in-time copy of a car park's slots and parked cars,
+ * taken by CarPark.takeSnapshot. Writers can persist it on any thread
+ * while the car park keeps changing.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public final class CarParkSnapshot {
+
+    private final List<SlotRecord> slots;
+    private final long takenAtMillis;
+    private final int occupied;
+
+    CarParkSnapshot(List<SlotRecord> slots, long takenAtMillis) {
+        this.slots = Collections.unmodifiableList(slots);
+        this.takenAtMillis = takenAtMillis;
+
+        int count = 0;
+        for (SlotRecord slot : slots) {
+            if (slot.isOccupied()) {
+                count++;
+            }
+        }
+        this.occupied = count;
+    }
+
+    /**
+     * Gets the slots in insertion order
+     * @return Unmodifiable list of slot records
+     */
+    public List<SlotRecord> getSlots() { return slots; }
+    public long getTakenAtMillis() { return takenAtMillis; }
+    public int getTotalSlots() { return slots.size(); }
+    public int getOccupiedCount() { return occupied; }
+
+    /**
+     * One slot and the car parked in it at the time of the snapshot
+     */
+    public static final class SlotRecord {
+        final long sequence;
+        private final ParkingSlot slot;
+        private final Car car;
+        private final long parkingTimeMillis;
+
+        SlotRecord(long sequence, ParkingSlot slot, Car car) {
+            this.sequence = sequence;
+            this.slot = slot;
+            this.car = car;
+            // Copied because the car's parking time may be reset later
+            this.parkingTimeMillis = car != null ? car.getParkingTimeMillis() : Car.NOT_PARKED;
+        }
+
+        public String getSlotId() { return slot.getSlotId(); }
+        public String getSlotType() { return slot.getSlotType(); }
+        public boolean isStaffSlot() { return slot.isStaffSlot(); }
+        public boolean isOccupied() { return car != null; }
+
+        /**
+         * Gets the car parked at the time of the snapshot
+         * @return The car, or null if the slot was free
+         */
+        public Car getCar() { return car; }
+        public long getParkingTimeMillis() { return parkingTimeMillis; }
+
+        /**
+         * Gets the parking time at the time of the snapshot
+         * @return Parking time, or null if the slot was free or the car not parked
+         */
+        public LocalDateTime getParkingTime() {
+            return parkingTimeMillis == Car.NOT_PARKED ? null : ParkingClock.toLocalDateTime(parkingTimeMillis);
+        }
+    }
+}
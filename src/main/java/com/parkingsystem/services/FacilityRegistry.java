@@ -0,0 +1,209 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.interfaces.IParkingEventListener;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of independent car parks, one per facility, hosted in the same
+ * JVM. Each facility is its own CarPark with its own slot maps, pools and
+ * counters, so operations on different facilities share no locks or
+ * contended state.
+ *
+ * A global index maps each parked registration to its facility, so a car
+ * can be found or removed without knowing where it parked, and a car
+ * cannot be parked in two facilities at once. Cars parked through the
+ * registry claim their registration globally before parking, and cars
+ * parked directly on a facility's CarPark claim it as they park, failing
+ * with DUPLICATE_CAR if another facility holds it. The index also follows
+ * cars removed directly.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class FacilityRegistry {
+
+    private final ConcurrentMap<String, Facility> facilities = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> registrationIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a facility's car park, creating an empty one if it does not exist
+     * @param facilityId The facility ID
+     * @return The facility's car park
+     */
+    public CarPark openFacility(String facilityId) {
+        if (facilityId == null || facilityId.isEmpty()) {
+            throw new IllegalArgumentException("Facility ID cannot be empty");
+        }
+        return facilities.computeIfAbsent(facilityId, Facility::new).carPark;
+    }
+
+    /**
+     * Gets a facility's car park
+     * @param facilityId The facility ID
+     * @return The car park, or null if the facility does not exist
+     */
+    public CarPark getFacility(String facilityId) {
+        Facility facility = facilities.get(facilityId);
+        return facility != null ? facility.carPark : null;
+    }
+
+    /**
+     * Removes a facility from the registry, along with the index entries of
+     * any cars still parked in it
+     * @param facilityId The facility ID
+     * @return The facility's car park, or null if it did not exist
+     */
+    public CarPark closeFacility(String facilityId) {
+        Facility facility = facilities.remove(facilityId);
+        if (facility == null) {
+            return null;
+        }
+
+        facility.closed = true;
+        facility.carPark.removeListener(facility);
+        registrationIndex.values().removeIf(facilityId::equals);
+        return facility.carPark;
+    }
+
+    /**
+     * Gets the IDs of all open facilities
+     * @return Unmodifiable live view of the facility IDs
+     */
+    public Set<String> getFacilityIds() {
+        return Collections.unmodifiableSet(facilities.keySet());
+    }
+
+    /**
+     * Finds which facility a car is parked in
+     * @param registrationNumber The registration to look up
+     * @return The facility ID, or null if the car is not parked
+     */
+    public String findFacilityOf(String registrationNumber) {
+        return registrationIndex.get(registrationNumber);
+    }
+
+    /**
+     * Finds the slot a car is parked in, in whichever facility
+     * @param registrationNumber The registration to look up
+     * @return The slot, or null if the car is not parked
+     */
+    public ParkingSlot findCarByRegistration(String registrationNumber) {
+        String facilityId = registrationIndex.get(registrationNumber);
+        CarPark carPark = facilityId != null ? getFacility(facilityId) : null;
+        return carPark != null ? carPark.findCarByRegistration(registrationNumber) : null;
+    }
+
+    /**
+     * Parks a car in a slot of a facility, unless it is parked in any facility
+     * @param facilityId The facility ID
+     * @param slotId The slot ID
+     * @param car The car to park
+     * @return The outcome; DUPLICATE_CAR if the car is parked in any facility
+     */
+    public ParkingOutcome parkCar(String facilityId, String slotId, Car car) {
+        Facility facility = facilities.get(facilityId);
+        if (facility == null) {
+            return ParkingOutcome.FACILITY_NOT_FOUND;
+        }
+
+        String registration = car.getRegistrationNumber();
+        if (registrationIndex.putIfAbsent(registration, facilityId) != null) {
+            return ParkingOutcome.DUPLICATE_CAR;
+        }
+
+        ParkingOutcome outcome = facility.carPark.tryParkCar(slotId, car);
+        if (!outcome.isSuccess()) {
+            registrationIndex.remove(registration, facilityId);
+        }
+        return outcome;
+    }
+
+    /**
+     * Parks a car in any free slot of its type in a facility, unless it is
+     * parked in any facility
+     * @param facilityId The facility ID
+     * @param car The car to park
+     * @return The outcome; DUPLICATE_CAR if the car is parked in any facility
+     */
+    public ParkingOutcome parkAnywhere(String facilityId, Car car) {
+        Facility facility = facilities.get(facilityId);
+        if (facility == null) {
+            return ParkingOutcome.FACILITY_NOT_FOUND;
+        }
+
+        String registration = car.getRegistrationNumber();
+        if (registrationIndex.putIfAbsent(registration, facilityId) != null) {
+            return ParkingOutcome.DUPLICATE_CAR;
+        }
+
+        ParkingOutcome outcome = facility.carPark.tryParkAnywhere(car);
+        if (!outcome.isSuccess()) {
+            registrationIndex.remove(registration, facilityId);
+        }
+        return outcome;
+    }
+
+    /**
+     * Removes a car from whichever facility it is parked in
+     * @param registrationNumber The registration to remove
+     * @return The removed car, or null if it is not parked
+     */
+    public Car removeCar(String registrationNumber) {
+        String facilityId = registrationIndex.get(registrationNumber);
+        CarPark carPark = facilityId != null ? getFacility(facilityId) : null;
+        return carPark != null ? carPark.removeCarSafe(registrationNumber) : null;
+    }
+
+    /**
+     * Gets the number of cars parked across all facilities
+     * @return Number of parked cars
+     */
+    public int getOccupiedCount() {
+        int occupied = 0;
+        for (Facility facility : facilities.values()) {
+            occupied += facility.carPark.getOccupiedCount();
+        }
+        return occupied;
+    }
+
+    /**
+     * A facility's car park, the claim it makes on the global index as
+     * cars park, and the listener that releases it as they leave
+     */
+    private final class Facility implements IParkingEventListener {
+        private final String id;
+        private final CarPark carPark;
+        private volatile boolean closed;
+
+        Facility(String id) {
+            this.id = id;
+            this.carPark = new CarPark(this::claim);
+            carPark.addListener(this);
+        }
+
+        /**
+         * Claims a registration for this facility as a car parks in it
+         * @param registration The registration being parked
+         * @return false if another facility holds it
+         */
+        private boolean claim(String registration) {
+            if (closed) {
+                return true;
+            }
+            // Already claimed when parked through the registry
+            String owner = registrationIndex.putIfAbsent(registration, id);
+            return owner == null || owner.equals(id);
+        }
+
+        @Override
+        public void onCarRemoved(ParkingSlot slot, Car car) {
+            registrationIndex.remove(car.getRegistrationNumber(), id);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.parkingsystem.models.Car;
 /**
  * Service class providing different fee calculation strategies.
  * Demonstrates Strategy Design Pattern implementation.
+ * Fees are computed from epoch milliseconds without allocating.
  * 
  * @author [Your Name]
  * @version 1.0
@@ -23,11 +24,10 @@ public class FeeCalculatorService {
         }
         
         @Override
-        public double calculateFee(Car car) {
-            if (car.getParkingTime() == null) return 0.0;
+        public double calculateFee(Car car, long nowMillis) {
+            if (!car.isParked()) return 0.0;
             
-            long hours = car.getParkingDurationObject().toHours();
-            if (hours == 0) hours = 1; // Minimum 1 hour
+            long hours = car.getBillableHours(nowMillis); // Minimum 1 hour
             
             return hours * hourlyRate;
         }
@@ -53,11 +53,10 @@ public class FeeCalculatorService {
         }
         
         @Override
-        public double calculateFee(Car car) {
-            if (car.getParkingTime() == null) return 0.0;
+        public double calculateFee(Car car, long nowMillis) {
+            if (!car.isParked()) return 0.0;
             
-            long hours = car.getParkingDurationObject().toHours();
-            if (hours == 0) hours = 1;
+            long hours = car.getBillableHours(nowMillis);
             
             return hours * hourlyRate * WEEKEND_DISCOUNT;
         }
@@ -72,9 +71,13 @@ public class FeeCalculatorService {
     }
     
     /**
-     * Daily maximum fee calculator - caps at daily maximum
+     * Daily maximum fee calculator - caps each 24 hours of a stay at the
+     * daily maximum. Multi-day stays are billed in constant time as full
+     * days at the capped day rate plus the capped remainder.
      */
     public static class DailyMaxFeeCalculator implements IFeeCalculator {
+        private static final int HOURS_PER_DAY = 24;
+        
         private final double hourlyRate;
         private final double dailyMax;
         
@@ -84,14 +87,15 @@ public class FeeCalculatorService {
         }
         
         @Override
-        public double calculateFee(Car car) {
-            if (car.getParkingTime() == null) return 0.0;
+        public double calculateFee(Car car, long nowMillis) {
+            if (!car.isParked()) return 0.0;
             
-            long hours = car.getParkingDurationObject().toHours();
-            if (hours == 0) hours = 1;
+            long hours = car.getBillableHours(nowMillis);
+            long fullDays = hours / HOURS_PER_DAY;
+            long remainder = hours % HOURS_PER_DAY;
             
-            double fee = hours * hourlyRate;
-            return Math.min(fee, dailyMax);
+            return fullDays * Math.min(HOURS_PER_DAY * hourlyRate, dailyMax)
+                    + Math.min(remainder * hourlyRate, dailyMax);
         }
         
         @Override
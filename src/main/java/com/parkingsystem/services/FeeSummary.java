@@ -0,0 +1,78 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.factory.ParkingSlotFactory.SlotType;
+import com.parkingsystem.models.ParkingSlot;
+
+/**
+ * Outstanding fees across all occupied slots, evaluated in one pass by
+ * CarPark.evaluateFees against a single timestamp.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class FeeSummary {
+
+    private final long evaluatedAtMillis;
+    private final double[] fees = new double[SlotType.values().length];
+    private final int[] cars = new int[SlotType.values().length];
+
+    FeeSummary(long evaluatedAtMillis) {
+        this.evaluatedAtMillis = evaluatedAtMillis;
+    }
+
+    /**
+     * Adds one car's fee
+     * @param slot The slot the car is parked in
+     * @param fee The car's fee
+     */
+    void add(ParkingSlot slot, double fee) {
+        int type = (slot.isStaffSlot() ? SlotType.STAFF : SlotType.VISITOR).ordinal();
+        fees[type] += fee;
+        cars[type]++;
+    }
+
+    /**
+     * Adds the totals of a partial summary, for parallel evaluation
+     * @param other The partial summary
+     */
+    void merge(FeeSummary other) {
+        for (int i = 0; i < fees.length; i++) {
+            fees[i] += other.fees[i];
+            cars[i] += other.cars[i];
+        }
+    }
+
+    public long getEvaluatedAtMillis() { return evaluatedAtMillis; }
+
+    public double getTotalFees(SlotType type) { return fees[type.ordinal()]; }
+    public int getCarCount(SlotType type) { return cars[type.ordinal()]; }
+
+    public double getAverageFee(SlotType type) {
+        int count = cars[type.ordinal()];
+        return count == 0 ? 0.0 : fees[type.ordinal()] / count;
+    }
+
+    public double getTotalFees() {
+        double total = 0;
+        for (double fee : fees) {
+            total += fee;
+        }
+        return total;
+    }
+
+    public int getCarCount() {
+        int total = 0;
+        for (int count : cars) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("$%.2f outstanding from %d cars (Staff $%.2f/%d, Visitor $%.2f/%d)",
+                           getTotalFees(), getCarCount(),
+                           getTotalFees(SlotType.STAFF), getCarCount(SlotType.STAFF),
+                           getTotalFees(SlotType.VISITOR), getCarCount(SlotType.VISITOR));
+    }
+}
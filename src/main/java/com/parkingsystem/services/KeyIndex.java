@@ -0,0 +1,160 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.utils.KeyCodec;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent index of values by slot ID or registration.
+ * Values whose key is in canonical form sit in an array slot addressed
+ * by the packed key from KeyCodec, so lookups neither hash nor compare
+ * strings. The array is split into pages allocated on first use, so an
+ * index over the 260,000 canonical registrations costs a few kilobytes
+ * until cars arrive, rather than a megabyte per car park. Keys with a
+ * wide form, such as hierarchical slot addresses or other registration
+ * formats, go to a LongKeyTable under their packed long. Any other key
+ * falls back to a ConcurrentHashMap. A given string always goes to the
+ * same place, so they never disagree.
+ *
+ * Offers the subset of ConcurrentMap operations CarPark needs, with the
+ * same atomicity.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+final class KeyIndex<V> implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    // Packed keys per page of the direct table
+    private static final int PAGE_SHIFT = 9;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    
+    // Plain arrays accessed through VarHandles, so a lookup costs no more
+    // loads than an unpaged AtomicReferenceArray
+    private static final VarHandle PAGES = MethodHandles.arrayElementVarHandle(Object[][].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    
+    private final KeyCodec codec;
+    private final int capacity;
+    private final Object[][] pages;
+    private final LongKeyTable<V> wide;
+    private final ConcurrentMap<String, V> fallback;
+    
+    KeyIndex(KeyCodec codec) {
+        this.codec = codec;
+        this.capacity = codec.capacity();
+        this.pages = new Object[(capacity + PAGE_MASK) >>> PAGE_SHIFT][];
+        this.wide = new LongKeyTable<>();
+        this.fallback = new ConcurrentHashMap<>();
+    }
+    
+    V get(String key) {
+        int packed = codec.encode(key);
+        if (packed != KeyCodec.NO_KEY) {
+            return getDirect(packed);
+        }
+        long wideKey = codec.encodeWide(key);
+        return wideKey != KeyCodec.NO_KEY ? wide.get(wideKey) : fallback.get(key);
+    }
+    
+    /**
+     * Looks up a value by wide key
+     * @param wideKey A key from the codec's encodeWide
+     * @return The value, or null if absent
+     */
+    V getWide(long wideKey) {
+        if (wideKey < 0) {
+            return null;
+        }
+        int packed = codec.narrow(wideKey);
+        return packed != KeyCodec.NO_KEY ? getDirect(packed) : wide.get(wideKey);
+    }
+    
+    /**
+     * Looks up a value by packed key
+     * @param packed A key from the index's codec
+     * @return The value, or null if absent or the key is out of range
+     */
+    V get(int packed) {
+        return packed >= 0 && packed < capacity ? getDirect(packed) : null;
+    }
+    
+    boolean containsKey(String key) {
+        return get(key) != null;
+    }
+    
+    V putIfAbsent(String key, V value) {
+        int packed = codec.encode(key);
+        if (packed == KeyCodec.NO_KEY) {
+            long wideKey = codec.encodeWide(key);
+            return wideKey != KeyCodec.NO_KEY ? wide.putIfAbsent(wideKey, value) : fallback.putIfAbsent(key, value);
+        }
+        
+        Object[] page = pageFor(packed);
+        int offset = packed & PAGE_MASK;
+        while (!VALUES.compareAndSet(page, offset, null, value)) {
+            @SuppressWarnings("unchecked")
+            V existing = (V) VALUES.getVolatile(page, offset);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return null;
+    }
+    
+    boolean remove(String key, V value) {
+        int packed = codec.encode(key);
+        if (packed != KeyCodec.NO_KEY) {
+            Object[] page = (Object[]) PAGES.getAcquire(pages, packed >>> PAGE_SHIFT);
+            return page != null && VALUES.compareAndSet(page, packed & PAGE_MASK, value, null);
+        }
+        long wideKey = codec.encodeWide(key);
+        return wideKey != KeyCodec.NO_KEY ? wide.remove(wideKey, value) : fallback.remove(key, value);
+    }
+    
+    /**
+     * Sizes the index for a batch of keys about to be added. Only the wide
+     * table needs it; direct pages are allocated as their keys arrive.
+     * @param additional Number of keys about to be added
+     */
+    void reserve(int additional) {
+        wide.reserve(additional);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private V getDirect(int packed) {
+        Object[] page = (Object[]) PAGES.getAcquire(pages, packed >>> PAGE_SHIFT);
+        return page != null ? (V) VALUES.getVolatile(page, packed & PAGE_MASK) : null;
+    }
+    
+    /**
+     * Gets the page holding a packed key, allocating it if this is the
+     * first key on it
+     */
+    private Object[] pageFor(int packed) {
+        int index = packed >>> PAGE_SHIFT;
+        Object[] page = (Object[]) PAGES.getAcquire(pages, index);
+        if (page == null) {
+            // Losing the race discards the new page in favour of the installed one
+            Object[] created = new Object[PAGE_SIZE];
+            page = PAGES.compareAndSet(pages, index, null, created)
+                ? created
+                : (Object[]) PAGES.getAcquire(pages, index);
+        }
+        return page;
+    }
+    
+    void clear() {
+        for (int i = 0; i < pages.length; i++) {
+            PAGES.setRelease(pages, i, null);
+        }
+        wide.clear();
+        fallback.clear();
+    }
+}
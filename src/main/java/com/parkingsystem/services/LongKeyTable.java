@@ -0,0 +1,160 @@
+package com.parkingsystem.services;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent hash table from non-negative long keys to values, for packed
+ * slot addresses. Open addressing with linear probing over a key array
+ * and a value array, so lookups neither box the key nor allocate.
+ *
+ * Lookups take no lock. Writers are serialized on the table; that suits
+ * slot provisioning, which is rare next to lookups. A value is written
+ * before its key, so a reader that finds a key also sees its value.
+ * Removal leaves the key as a tombstone with no value, and resizing
+ * copies the live entries into a new table, which is then published in
+ * one volatile write. The old table is never written again, so a reader
+ * still using it sees a consistent earlier state.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+final class LongKeyTable<V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Table<V> table;
+
+    // Keys in use including tombstones, and live entries; guarded by this
+    private int used;
+    private int size;
+
+    LongKeyTable() {
+        this.table = new Table<>(INITIAL_CAPACITY);
+    }
+
+    V get(long key) {
+        Table<V> current = table;
+        int mask = current.mask;
+        for (int i = spread(key) & mask; ; i = (i + 1) & mask) {
+            long found = current.keys.get(i);
+            if (found == key) {
+                return current.values.get(i);
+            }
+            if (found == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    synchronized V putIfAbsent(long key, V value) {
+        Table<V> current = table;
+        int i = indexOf(current, key);
+        if (current.keys.get(i) == key) {
+            V existing = current.values.get(i);
+            if (existing != null) {
+                return existing;
+            }
+            current.values.set(i, value);
+            size++;
+            return null;
+        }
+
+        // Keep at most half the table in use so probes stay short
+        if ((used + 1) * 2 > current.keys.length()) {
+            current = resize(size + 1);
+            i = indexOf(current, key);
+        }
+        current.values.set(i, value);
+        current.keys.set(i, key);
+        used++;
+        size++;
+        return null;
+    }
+
+    synchronized boolean remove(long key, V value) {
+        Table<V> current = table;
+        int i = indexOf(current, key);
+        if (current.keys.get(i) != key || current.values.get(i) != value) {
+            return false;
+        }
+        current.values.set(i, null);
+        size--;
+        return true;
+    }
+
+    synchronized void clear() {
+        table = new Table<>(INITIAL_CAPACITY);
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Makes room for more entries, so adding them does not resize the
+     * table again and again
+     * @param additional Number of entries about to be added
+     */
+    synchronized void reserve(int additional) {
+        if ((long) (used + additional) * 2 > table.keys.length()) {
+            resize(size + additional);
+        }
+    }
+
+    /** Finds the key's slot, or the empty slot where it would go */
+    private static int indexOf(Table<?> table, long key) {
+        int mask = table.mask;
+        for (int i = spread(key) & mask; ; i = (i + 1) & mask) {
+            long found = table.keys.get(i);
+            if (found == key || found == EMPTY) {
+                return i;
+            }
+        }
+    }
+
+    private Table<V> resize(int entries) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < entries * 4L) {
+            capacity <<= 1;
+        }
+
+        Table<V> old = table;
+        Table<V> resized = new Table<>(capacity);
+        for (int i = 0; i < old.keys.length(); i++) {
+            V value = old.values.get(i);
+            if (value != null) {
+                int slot = indexOf(resized, old.keys.get(i));
+                resized.values.set(slot, value);
+                resized.keys.set(slot, old.keys.get(i));
+            }
+        }
+
+        table = resized;
+        used = size;
+        return resized;
+    }
+
+    private static int spread(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static final class Table<V> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<V> values;
+        private final int mask;
+
+        Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                keys.lazySet(i, EMPTY);
+            }
+        }
+    }
+}
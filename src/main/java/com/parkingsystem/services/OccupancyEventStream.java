@@ -0,0 +1,214 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.interfaces.IOccupancyEventHandler;
+import com.parkingsystem.interfaces.IParkingEventListener;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.utils.ParkingClock;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream of slot and car changes for signage, billing and analytics,
+ * so they can follow a car park instead of polling getAllSlots.
+ *
+ * Attached as a listener, the stream writes each change into the next
+ * entry of a preallocated ring. Publishing claims a sequence number with
+ * one atomic increment and writes primitive fields and references to the
+ * existing slot and car, so it neither allocates nor waits, however far
+ * behind the consumers are. Each consumer is a Subscription with its own
+ * position, reading batches at its own pace on its own thread.
+ *
+ * A consumer that falls more than a ring behind has been overwritten.
+ * It skips to the oldest event still in the ring and counts what it
+ * missed in getLostCount; it never receives a half-written event, as
+ * each entry carries its sequence number, checked before and after the
+ * entry is read. Size the ring for the longest pause a consumer may take.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class OccupancyEventStream implements IParkingEventListener {
+
+    /** What an event reports */
+    public enum Kind { SLOT_ADDED, SLOT_REMOVED, CAR_PARKED, CAR_REMOVED }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    // Stamp of an entry never written, and of an entry being written
+    private static final long UNWRITTEN = -1;
+    private static final long WRITING = -2;
+
+    private static final VarHandle STAMPS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int mask;
+    private final long[] stamps;
+    private final byte[] kinds;
+    private final ParkingSlot[] slots;
+    private final Car[] cars;
+    private final long[] times;
+
+    // Next sequence number to claim
+    private final AtomicLong cursor;
+
+    /**
+     * Creates a stream
+     * @param capacity Number of entries in the ring, a power of two
+     */
+    public OccupancyEventStream(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+
+        this.mask = capacity - 1;
+        this.stamps = new long[capacity];
+        this.kinds = new byte[capacity];
+        this.slots = new ParkingSlot[capacity];
+        this.cars = new Car[capacity];
+        this.times = new long[capacity];
+        this.cursor = new AtomicLong();
+        Arrays.fill(stamps, UNWRITTEN);
+    }
+
+    /**
+     * Starts publishing a car park's changes
+     * @param carPark The car park to follow
+     */
+    public void attach(CarPark carPark) {
+        carPark.addListener(this);
+    }
+
+    /**
+     * Stops publishing a car park's changes
+     * @param carPark The car park being followed
+     */
+    public void detach(CarPark carPark) {
+        carPark.removeListener(this);
+    }
+
+    /**
+     * Creates a consumer that receives events published from now on
+     * @return The new subscription
+     */
+    public Subscription subscribe() {
+        return new Subscription(cursor.get());
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        publish(Kind.SLOT_ADDED, slot, null, ParkingClock.currentTimeMillis());
+    }
+
+    @Override
+    public void onSlotRemoved(ParkingSlot slot) {
+        publish(Kind.SLOT_REMOVED, slot, null, ParkingClock.currentTimeMillis());
+    }
+
+    @Override
+    public void onCarParked(ParkingSlot slot, Car car) {
+        publish(Kind.CAR_PARKED, slot, car, car.getParkingTimeMillis());
+    }
+
+    @Override
+    public void onCarRemoved(ParkingSlot slot, Car car) {
+        publish(Kind.CAR_REMOVED, slot, car, ParkingClock.currentTimeMillis());
+    }
+
+    private void publish(Kind kind, ParkingSlot slot, Car car, long timeMillis) {
+        long sequence = cursor.getAndIncrement();
+        int index = (int) sequence & mask;
+
+        // Readers that see WRITING, or any stamp change, discard what they read
+        STAMPS.setOpaque(stamps, index, WRITING);
+        VarHandle.storeStoreFence();
+        kinds[index] = (byte) kind.ordinal();
+        slots[index] = slot;
+        cars[index] = car;
+        times[index] = timeMillis;
+        STAMPS.setRelease(stamps, index, sequence);
+    }
+
+    /**
+     * Gets the number of events published so far
+     * @return Sequence number of the next event
+     */
+    public long getPublishedCount() {
+        return cursor.get();
+    }
+
+    public int getCapacity() { return mask + 1; }
+
+    /**
+     * One consumer's position in the stream. A subscription must be read
+     * by one thread at a time; different subscriptions are independent.
+     */
+    public final class Subscription {
+        private long next;
+        private long lost;
+
+        private Subscription(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Delivers the events published since the last poll, oldest first
+         * @param handler Receives each event
+         * @param maxBatch Most events to deliver in this call
+         * @return Number of events delivered
+         */
+        public int poll(IOccupancyEventHandler handler, int maxBatch) {
+            int delivered = 0;
+            while (delivered < maxBatch) {
+                int index = (int) next & mask;
+                long stamp = (long) STAMPS.getAcquire(stamps, index);
+                if (stamp < next) {
+                    break; // Not published yet
+                }
+
+                if (stamp == next) {
+                    Kind kind = KINDS[kinds[index]];
+                    ParkingSlot slot = slots[index];
+                    Car car = cars[index];
+                    long timeMillis = times[index];
+                    VarHandle.loadLoadFence();
+                    if ((long) STAMPS.getOpaque(stamps, index) == stamp) {
+                        handler.onEvent(next++, kind, slot, car, timeMillis);
+                        delivered++;
+                        continue;
+                    }
+                }
+
+                // Overwritten: skip to the oldest event that can still be read
+                long oldest = cursor.get() - mask - 1;
+                if (oldest > next) {
+                    lost += oldest - next;
+                    next = oldest;
+                }
+            }
+            return delivered;
+        }
+
+        /**
+         * Gets the number of events still to be read
+         * @return Events published but not yet delivered, including any about to be lost
+         */
+        public long getBacklog() {
+            return cursor.get() - next;
+        }
+
+        /**
+         * Gets the number of events overwritten before this consumer read them
+         * @return Events skipped so far
+         */
+        public long getLostCount() { return lost; }
+
+        /**
+         * Gets the sequence number of the next event to deliver
+         * @return The position in the stream
+         */
+        public long getPosition() { return next; }
+    }
+}
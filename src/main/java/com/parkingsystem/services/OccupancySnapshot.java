@@ -0,0 +1,54 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.factory.ParkingSlotFactory.SlotType;
+
+/**
+ * Reusable holder for per slot type occupancy figures.
+ * Filled by CarPark.readOccupancy without allocating, so a caller
+ * polling the car park (e.g. entrance signage) can reuse one instance.
+ *
+ * Figures for each slot type are read atomically together; figures for
+ * different types may come from slightly different moments.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class OccupancySnapshot {
+
+    private final int[] total = new int[SlotType.values().length];
+    private final int[] occupied = new int[SlotType.values().length];
+
+    /**
+     * Records the figures for one slot type
+     * @param type The slot type
+     * @param totalSlots Number of registered slots of this type
+     * @param occupiedSlots Number of occupied slots of this type
+     */
+    void set(SlotType type, int totalSlots, int occupiedSlots) {
+        total[type.ordinal()] = totalSlots;
+        occupied[type.ordinal()] = occupiedSlots;
+    }
+
+    public int getTotal(SlotType type) { return total[type.ordinal()]; }
+    public int getOccupied(SlotType type) { return occupied[type.ordinal()]; }
+    public int getAvailable(SlotType type) { return total[type.ordinal()] - occupied[type.ordinal()]; }
+
+    public int getTotal() { return sum(total); }
+    public int getOccupied() { return sum(occupied); }
+    public int getAvailable() { return getTotal() - getOccupied(); }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Staff %d/%d, Visitor %d/%d occupied",
+                           getOccupied(SlotType.STAFF), getTotal(SlotType.STAFF),
+                           getOccupied(SlotType.VISITOR), getTotal(SlotType.VISITOR));
+    }
+}
@@ -0,0 +1,265 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.interfaces.IOverstayListener;
+import com.parkingsystem.interfaces.IParkingEventListener;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.utils.ParkingClock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags cars parked longer than a maximum stay, without walking the
+ * occupied slots. Attached to a car park as a listener, it schedules a
+ * timer for each car as it parks and cancels it as the car leaves;
+ * advancing the monitor to the current time fires the timers that are due.
+ *
+ * Timers sit in a hierarchical timing wheel: four wheels of 64 buckets,
+ * whose buckets span 1, 64, 4,096 and 262,144 ticks. A timer goes into
+ * the coarsest wheel whose bucket still separates it from the current
+ * tick, and moves to a finer wheel when that bucket comes round. Parking,
+ * leaving and each timer's expiry therefore cost O(1), and a tick with
+ * no timers due costs a single bucket check, however many cars are parked.
+ *
+ * Parking times changed after the event, as when a snapshot is restored,
+ * are picked up on firing: a timer that turns out to be early is
+ * rescheduled. Attach the monitor after restoring, so restored cars are
+ * scheduled from their original parking times.
+ *
+ * Changes and advancing are serialized on the monitor; overstay callbacks
+ * run after it is released.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class OverstayMonitor implements IParkingEventListener {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int WHEELS = 4;
+
+    private final long maxStayMillis;
+    private final long tickMillis;
+    private final IOverstayListener listener;
+
+    // wheels[w][i] is the sentinel of a circular list of timers
+    private final Timer[][] wheels;
+    private final Map<Car, Timer> timers;
+
+    private long currentTick;
+
+    /**
+     * Creates a monitor starting at the current ParkingClock time
+     * @param maxStayMillis Longest stay allowed
+     * @param tickMillis Resolution of overstay detection, e.g. one minute
+     * @param listener Called for each car that passes the maximum stay
+     */
+    public OverstayMonitor(long maxStayMillis, long tickMillis, IOverstayListener listener) {
+        if (maxStayMillis <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("Maximum stay and tick must be positive");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+
+        this.maxStayMillis = maxStayMillis;
+        this.tickMillis = tickMillis;
+        this.listener = listener;
+        this.timers = new HashMap<>();
+        this.wheels = new Timer[WHEELS][WHEEL_SIZE];
+        for (Timer[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Timer(null, null);
+            }
+        }
+        this.currentTick = Math.floorDiv(ParkingClock.currentTimeMillis(), tickMillis);
+    }
+
+    /**
+     * Starts monitoring a car park, scheduling the cars already parked
+     * @param carPark The car park to monitor
+     */
+    public void attach(CarPark carPark) {
+        carPark.addListener(this);
+        carPark.forEachOccupiedSlot(slot -> {
+            Car car = slot.getParkedCar();
+            if (car != null) {
+                onCarParked(slot, car);
+            }
+        });
+    }
+
+    /**
+     * Stops monitoring a car park and drops its timers
+     * @param carPark The car park being monitored
+     */
+    public void detach(CarPark carPark) {
+        carPark.removeListener(this);
+        synchronized (this) {
+            for (Timer timer : timers.values()) {
+                timer.unlink();
+            }
+            timers.clear();
+        }
+    }
+
+    @Override
+    public void onCarParked(ParkingSlot slot, Car car) {
+        Timer timer = new Timer(slot, car);
+        synchronized (this) {
+            Timer previous = timers.put(car, timer);
+            if (previous != null) {
+                previous.unlink();
+            }
+            schedule(timer, Math.max(deadlineTick(car), currentTick + 1));
+        }
+    }
+
+    @Override
+    public void onCarRemoved(ParkingSlot slot, Car car) {
+        synchronized (this) {
+            Timer timer = timers.remove(car);
+            if (timer != null) {
+                timer.unlink();
+            }
+        }
+    }
+
+    /**
+     * Fires the timers due by the current ParkingClock time
+     * @return Number of overstays reported
+     */
+    public int advance() {
+        return advance(ParkingClock.currentTimeMillis());
+    }
+
+    /**
+     * Fires the timers due by a given time
+     * @param nowMillis The time to advance to, in epoch milliseconds
+     * @return Number of overstays reported
+     */
+    public int advance(long nowMillis) {
+        List<Timer> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = Math.floorDiv(nowMillis, tickMillis);
+            if (timers.isEmpty() && targetTick > currentTick) {
+                currentTick = targetTick;
+            }
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                expire(wheels[0][(int) (currentTick & WHEEL_MASK)], due);
+            }
+        }
+
+        for (Timer timer : due) {
+            listener.onOverstay(timer.slot, timer.car, nowMillis);
+        }
+        return due.size();
+    }
+
+    /**
+     * Gets the number of parked cars being timed
+     * @return Cars with a pending timer
+     */
+    public synchronized int getTrackedCount() {
+        return timers.size();
+    }
+
+    public long getMaxStayMillis() { return maxStayMillis; }
+    public long getTickMillis() { return tickMillis; }
+
+    /** First tick at which the car has stayed longer than the maximum */
+    private long deadlineTick(Car car) {
+        long deadline = car.getParkingTimeMillis() + maxStayMillis + 1;
+        return -Math.floorDiv(-deadline, tickMillis);
+    }
+
+    /**
+     * Links a timer into the bucket for a tick no earlier than the current one
+     */
+    private void schedule(Timer timer, long tick) {
+        long delta = tick - currentTick;
+
+        int wheel = 0;
+        while (wheel < WHEELS - 1 && delta >= 1L << (WHEEL_BITS * (wheel + 1))) {
+            wheel++;
+        }
+        timer.linkBefore(wheels[wheel][(int) ((tick >>> (WHEEL_BITS * wheel)) & WHEEL_MASK)]);
+    }
+
+    /**
+     * Moves timers down from coarser wheels whose bucket starts at the
+     * current tick; each timer moves at most once per wheel
+     */
+    private void cascade() {
+        for (int wheel = 1; wheel < WHEELS; wheel++) {
+            if ((currentTick & ((1L << (WHEEL_BITS * wheel)) - 1)) != 0) {
+                return;
+            }
+
+            Timer bucket = wheels[wheel][(int) ((currentTick >>> (WHEEL_BITS * wheel)) & WHEEL_MASK)];
+            Timer timer = bucket.next;
+            bucket.clear();
+            while (timer != bucket) {
+                Timer next = timer.next;
+                // The current tick's bucket is expired right after cascading
+                schedule(timer, Math.max(deadlineTick(timer.car), currentTick));
+                timer = next;
+            }
+        }
+    }
+
+    private void expire(Timer bucket, List<Timer> due) {
+        Timer timer = bucket.next;
+        bucket.clear();
+        while (timer != bucket) {
+            Timer next = timer.next;
+            timer.next = timer.prev = timer;
+
+            if (timer.slot.getParkedCar() != timer.car) {
+                timers.remove(timer.car, timer); // Left without an event, e.g. before attach finished
+            } else if (deadlineTick(timer.car) > currentTick) {
+                schedule(timer, deadlineTick(timer.car)); // Parking time moved later
+            } else {
+                timers.remove(timer.car, timer);
+                due.add(timer);
+            }
+            timer = next;
+        }
+    }
+
+    /** Intrusive list node; a bucket's sentinel links to itself when empty */
+    private static final class Timer {
+        private final ParkingSlot slot;
+        private final Car car;
+        private Timer prev = this;
+        private Timer next = this;
+
+        Timer(ParkingSlot slot, Car car) {
+            this.slot = slot;
+            this.car = car;
+        }
+
+        void linkBefore(Timer sentinel) {
+            prev = sentinel.prev;
+            next = sentinel;
+            sentinel.prev.next = this;
+            sentinel.prev = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = next = this;
+        }
+
+        void clear() {
+            prev = next = this;
+        }
+    }
+}
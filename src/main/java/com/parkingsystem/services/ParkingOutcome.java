@@ -0,0 +1,41 @@
+package com.parkingsystem.services;
+
+/**
+ * Result codes returned by the CarPark try* methods, which report
+ * failures without creating or throwing exceptions. Each failure carries
+ * the error code of the matching ParkingException; FACILITY_NOT_FOUND is
+ * only reported by FacilityRegistry.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public enum ParkingOutcome {
+    
+    SUCCESS(null),
+    SLOT_NOT_FOUND("SLOT_NOT_FOUND"),
+    DUPLICATE_SLOT("DUPLICATE_SLOT"),
+    SLOT_OCCUPIED("SLOT_OCCUPIED"),
+    SLOT_TYPE_MISMATCH("TYPE_MISMATCH"),
+    DUPLICATE_CAR("DUPLICATE_CAR"),
+    CAR_NOT_FOUND("CAR_NOT_FOUND"),
+    NO_AVAILABLE_SLOT("NO_AVAILABLE_SLOT"),
+    FACILITY_NOT_FOUND("FACILITY_NOT_FOUND");
+    
+    private final String errorCode;
+    
+    ParkingOutcome(String errorCode) {
+        this.errorCode = errorCode;
+    }
+    
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+    
+    /**
+     * Gets the error code of the exception the throwing API reports
+     * @return The error code, or null for SUCCESS
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
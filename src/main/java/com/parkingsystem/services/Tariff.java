@@ -0,0 +1,380 @@
+package com.parkingsystem.services;
+
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.utils.ParkingClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declarative parking tariff: an hourly rate, time-of-day bands that can
+ * differ between weekdays and weekends, a grace period and a daily cap.
+ * A tariff is compiled once into an IFeeCalculator backed by precomputed
+ * tables, so a fee costs the same few array reads for a one-hour visit
+ * as for a ninety-day stay.
+ *
+ * Billing follows the other calculators: a stay is charged for its
+ * billable hours, and each hour is priced by the band in which it starts.
+ * With a daily cap, every 24 hours from arrival is charged at most the cap.
+ *
+ * Hours are placed in bands in ParkingClock's zone, the zone parking
+ * times are displayed in, unless the tariff sets its own zone. The
+ * offset in effect at arrival applies to the whole stay, so a stay that
+ * crosses a daylight saving change is priced one hour off after it.
+ *
+ * <pre>
+ * IFeeCalculator visitor = Tariff.builder("Visitor", 5.0)
+ *         .weekdayBand(7, 10, 8.0)
+ *         .weekendBand(0, 24, 3.0)
+ *         .gracePeriod(Duration.ofMinutes(15))
+ *         .dailyCap(30.0)
+ *         .build()
+ *         .compile();
+ * </pre>
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class Tariff {
+
+    /** Days a band applies to */
+    public enum Days { WEEKDAYS, WEEKENDS, ALL }
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int HOURS_PER_WEEK = HOURS_PER_DAY * DAYS_PER_WEEK;
+
+    private final String name;
+    private final double hourlyRate;
+    private final List<Band> bands;
+    private final long graceMillis;
+    private final double dailyCap;
+    private final ZoneId zone;
+
+    private Tariff(Builder builder) {
+        this.name = builder.name;
+        this.hourlyRate = builder.hourlyRate;
+        this.bands = Collections.unmodifiableList(new ArrayList<>(builder.bands));
+        this.graceMillis = builder.graceMillis;
+        this.dailyCap = builder.dailyCap;
+        this.zone = builder.zone;
+    }
+
+    /**
+     * Starts a tariff definition
+     * @param name Name shown in the calculator description
+     * @param hourlyRate Rate for hours not covered by any band
+     * @return A new builder
+     */
+    public static Builder builder(String name, double hourlyRate) {
+        return new Builder(name, hourlyRate);
+    }
+
+    public String getName() { return name; }
+    public double getHourlyRate() { return hourlyRate; }
+    public List<Band> getBands() { return bands; }
+    public Duration getGracePeriod() { return Duration.ofMillis(graceMillis); }
+    public boolean hasDailyCap() { return dailyCap < Double.POSITIVE_INFINITY; }
+    public double getDailyCap() { return dailyCap; }
+
+    /**
+     * Gets the zone used to place hours in bands
+     * @return The tariff's own zone, or else ParkingClock's current zone
+     */
+    public ZoneId getZone() {
+        return zone != null ? zone : ParkingClock.getClock().getZone();
+    }
+
+    /**
+     * Compiles this tariff into a fee calculator
+     * @return Calculator for this tariff
+     */
+    public Calculator compile() {
+        return new Calculator(this);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("Tariff %s: $%.2f/hour", name, hourlyRate));
+        for (Band band : bands) {
+            sb.append(", ").append(band);
+        }
+        if (graceMillis > 0) {
+            sb.append(String.format(", %d min grace", graceMillis / 60_000));
+        }
+        if (hasDailyCap()) {
+            sb.append(String.format(" (max $%.2f/day)", dailyCap));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A rate for part of the day. A band whose end hour is before its
+     * start hour runs past midnight, e.g. 22 to 6.
+     */
+    public static final class Band {
+        private final Days days;
+        private final int fromHour;
+        private final int toHour;
+        private final double hourlyRate;
+
+        private Band(Days days, int fromHour, int toHour, double hourlyRate) {
+            this.days = days;
+            this.fromHour = fromHour;
+            this.toHour = toHour;
+            this.hourlyRate = hourlyRate;
+        }
+
+        public Days getDays() { return days; }
+        public int getFromHour() { return fromHour; }
+        public int getToHour() { return toHour; }
+        public double getHourlyRate() { return hourlyRate; }
+
+        private boolean appliesTo(int dayOfWeek) {
+            boolean weekend = dayOfWeek >= 5;
+            return days == Days.ALL || (days == Days.WEEKENDS) == weekend;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %02d-%02d $%.2f/hour", days.name().toLowerCase(), fromHour, toHour, hourlyRate);
+        }
+    }
+
+    /**
+     * Builder for tariff definitions. Bands are applied in the order they
+     * are added, so a later band overrides an earlier one where they overlap.
+     */
+    public static final class Builder {
+        private final String name;
+        private final double hourlyRate;
+        private final List<Band> bands = new ArrayList<>();
+        private long graceMillis;
+        private double dailyCap = Double.POSITIVE_INFINITY;
+        private ZoneId zone;
+
+        private Builder(String name, double hourlyRate) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Tariff name cannot be empty");
+            }
+            checkRate(hourlyRate);
+            this.name = name;
+            this.hourlyRate = hourlyRate;
+        }
+
+        public Builder band(Days days, int fromHour, int toHour, double rate) {
+            if (days == null) {
+                throw new IllegalArgumentException("Band days cannot be null");
+            }
+            if (fromHour < 0 || fromHour > 23 || toHour < 0 || toHour > 24 || fromHour == toHour) {
+                throw new IllegalArgumentException("Invalid band hours: " + fromHour + "-" + toHour);
+            }
+            checkRate(rate);
+            bands.add(new Band(days, fromHour, toHour, rate));
+            return this;
+        }
+
+        public Builder weekdayBand(int fromHour, int toHour, double rate) {
+            return band(Days.WEEKDAYS, fromHour, toHour, rate);
+        }
+
+        public Builder weekendBand(int fromHour, int toHour, double rate) {
+            return band(Days.WEEKENDS, fromHour, toHour, rate);
+        }
+
+        /**
+         * Stays no longer than the grace period are free
+         */
+        public Builder gracePeriod(Duration grace) {
+            if (grace == null || grace.isNegative()) {
+                throw new IllegalArgumentException("Grace period cannot be negative");
+            }
+            this.graceMillis = grace.toMillis();
+            return this;
+        }
+
+        /**
+         * Caps the charge for each 24 hours from arrival
+         */
+        public Builder dailyCap(double cap) {
+            checkRate(cap);
+            this.dailyCap = cap;
+            return this;
+        }
+
+        /**
+         * Sets the zone used to place hours in bands; defaults to the zone
+         * of ParkingClock at the time a fee is calculated
+         */
+        public Builder zone(ZoneId zone) {
+            if (zone == null) {
+                throw new IllegalArgumentException("Zone cannot be null");
+            }
+            this.zone = zone;
+            return this;
+        }
+
+        public Tariff build() {
+            return new Tariff(this);
+        }
+
+        private static void checkRate(double rate) {
+            if (!(rate >= 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid rate: " + rate);
+            }
+        }
+    }
+
+    /**
+     * A tariff compiled into lookup tables indexed by hour of the week,
+     * Monday 00:00 being hour 0.
+     *
+     * hourSums holds running totals over two weeks, so the charge for any
+     * run of hours shorter than a week is one subtraction. With a daily cap,
+     * dayChains holds, for each arrival hour, the running total of the capped
+     * charges for up to seven consecutive 24-hour periods; after seven
+     * periods the arrival hour repeats, so longer stays are whole weeks of
+     * that total plus one lookup.
+     */
+    public static final class Calculator implements IFeeCalculator {
+        private final Tariff tariff;
+        private final double[] hourSums = new double[2 * HOURS_PER_WEEK + 1];
+        private final double[] dayChains;
+        private final double weekTotal;
+        // Offsets of the zone last used; replaced if ParkingClock's zone changes
+        private volatile ZoneOffsets zoneOffsets = new ZoneOffsets(ZoneOffset.UTC);
+
+        private Calculator(Tariff tariff) {
+            this.tariff = tariff;
+
+            double[] rates = new double[HOURS_PER_WEEK];
+            for (int hour = 0; hour < HOURS_PER_WEEK; hour++) {
+                rates[hour] = rateAt(tariff, hour / HOURS_PER_DAY, hour % HOURS_PER_DAY);
+            }
+            for (int i = 0; i < 2 * HOURS_PER_WEEK; i++) {
+                hourSums[i + 1] = hourSums[i] + rates[i % HOURS_PER_WEEK];
+            }
+            this.weekTotal = hourSums[HOURS_PER_WEEK];
+
+            if (tariff.hasDailyCap()) {
+                dayChains = new double[HOURS_PER_WEEK * (DAYS_PER_WEEK + 1)];
+                for (int start = 0; start < HOURS_PER_WEEK; start++) {
+                    int row = start * (DAYS_PER_WEEK + 1);
+                    for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                        int from = (start + day * HOURS_PER_DAY) % HOURS_PER_WEEK;
+                        dayChains[row + day + 1] = dayChains[row + day] + cappedSum(from, HOURS_PER_DAY);
+                    }
+                }
+            } else {
+                dayChains = null;
+            }
+        }
+
+        private static double rateAt(Tariff tariff, int dayOfWeek, int hourOfDay) {
+            double rate = tariff.hourlyRate;
+            for (Band band : tariff.bands) {
+                boolean inBand = band.fromHour < band.toHour
+                        ? hourOfDay >= band.fromHour && hourOfDay < band.toHour
+                        : hourOfDay >= band.fromHour || hourOfDay < band.toHour;
+                // Hours after midnight in an overnight band belong to the previous day's band
+                int bandDay = band.fromHour > band.toHour && hourOfDay < band.toHour
+                        ? (dayOfWeek + DAYS_PER_WEEK - 1) % DAYS_PER_WEEK : dayOfWeek;
+                if (inBand && band.appliesTo(bandDay)) {
+                    rate = band.hourlyRate;
+                }
+            }
+            return rate;
+        }
+
+        /** Sum of hourly charges for a run of hours shorter than a week */
+        private double sum(int fromHour, int hours) {
+            return hourSums[fromHour + hours] - hourSums[fromHour];
+        }
+
+        private double cappedSum(int fromHour, int hours) {
+            return Math.min(sum(fromHour, hours), tariff.dailyCap);
+        }
+
+        @Override
+        public double calculateFee(Car car, long nowMillis) {
+            if (!car.isParked() || car.getParkingDurationMillis(nowMillis) <= tariff.graceMillis) {
+                return 0.0;
+            }
+            return feeFor(car.getParkingTimeMillis(), car.getBillableHours(nowMillis));
+        }
+
+        /**
+         * Charge for a number of billable hours starting at a given time
+         * @param arrivalMillis Arrival time in epoch milliseconds
+         * @param hours Billable hours
+         * @return The fee
+         */
+        public double feeFor(long arrivalMillis, long hours) {
+            int start = hourOfWeek(arrivalMillis);
+
+            if (dayChains == null) {
+                return (hours / HOURS_PER_WEEK) * weekTotal + sum(start, (int) (hours % HOURS_PER_WEEK));
+            }
+
+            long days = hours / HOURS_PER_DAY;
+            int row = start * (DAYS_PER_WEEK + 1);
+            double fee = (days / DAYS_PER_WEEK) * dayChains[row + DAYS_PER_WEEK]
+                    + dayChains[row + (int) (days % DAYS_PER_WEEK)];
+            int remainder = (int) (hours % HOURS_PER_DAY);
+            if (remainder > 0) {
+                int from = (int) ((start + (days % DAYS_PER_WEEK) * HOURS_PER_DAY) % HOURS_PER_WEEK);
+                fee += cappedSum(from, remainder);
+            }
+            return fee;
+        }
+
+        private int hourOfWeek(long epochMillis) {
+            long localHours = Math.floorDiv(epochMillis + offsetMillis(epochMillis), 3_600_000L);
+            // 1970-01-01 was a Thursday, hour 72 of a week starting on Monday
+            return (int) Math.floorMod(localHours + 3 * HOURS_PER_DAY, (long) HOURS_PER_WEEK);
+        }
+
+        private long offsetMillis(long epochMillis) {
+            ZoneId zone = tariff.getZone();
+            ZoneOffsets offsets = zoneOffsets;
+            if (offsets.zone != zone) {
+                offsets = new ZoneOffsets(zone);
+                zoneOffsets = offsets;
+            }
+            return offsets.rules == null
+                    ? offsets.fixedMillis
+                    : offsets.rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        }
+
+        public Tariff getTariff() { return tariff; }
+
+        @Override
+        public double getHourlyRate() { return tariff.hourlyRate; }
+
+        @Override
+        public String getDescription() {
+            return tariff.toString();
+        }
+
+        /** A zone's rules, or its offset if the zone never changes offset */
+        private static final class ZoneOffsets {
+            private final ZoneId zone;
+            private final ZoneRules rules;
+            private final long fixedMillis;
+
+            private ZoneOffsets(ZoneId zone) {
+                ZoneRules zoneRules = zone.getRules();
+                this.zone = zone;
+                this.rules = zoneRules.isFixedOffset() ? null : zoneRules;
+                this.fixedMillis = zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.parkingsystem.utils;
+
+import com.parkingsystem.models.RegistrationKey;
+import com.parkingsystem.models.SlotAddress;
+
+/**
+ * Packs validated slot IDs and registrations into small int keys.
+ * Both formats are one uppercase letter followed by a fixed number of
+ * digits, so each key is letter * 10^digits + number: 0 to 2,599 for slot
+ * IDs and 0 to 259,999 for registrations. Keys can index plain arrays
+ * directly, with no hashing or boxing.
+ *
+ * Only the canonical form encodes: an ASCII letter A-Z followed by ASCII
+ * digits. Anything else, e.g. IDs of slots created without the factory,
+ * returns NO_KEY and is left to callers to handle as a string.
+ * 
+ * Slot IDs too many for the short form use hierarchical addresses, e.g.
+ * F1-L2-A147, which encodeWide packs into a long. Likewise registrations
+ * of other formats, e.g. KA01AB1234, are packed as RegistrationKeys.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public enum KeyCodec {
+    
+    /** Slot IDs, e.g. S01 */
+    SLOT_ID(2),
+    
+    /** Car registrations, e.g. A1234 */
+    REGISTRATION(4);
+    
+    /** Returned for values that are not in canonical form */
+    public static final int NO_KEY = -1;
+    
+    private static final int LETTERS = 26;
+    
+    private final int digits;
+    private final int numbers;
+    
+    KeyCodec(int digits) {
+        this.digits = digits;
+        int range = 1;
+        for (int i = 0; i < digits; i++) {
+            range *= 10;
+        }
+        this.numbers = range;
+    }
+    
+    /**
+     * Gets the number of distinct keys
+     * @return One more than the largest key
+     */
+    public int capacity() {
+        return LETTERS * numbers;
+    }
+    
+    /**
+     * Encodes a value without allocating
+     * @param value The slot ID or registration
+     * @return The key, or NO_KEY if the value is null or not in canonical form
+     */
+    public int encode(CharSequence value) {
+        if (value == null || value.length() != digits + 1) {
+            return NO_KEY;
+        }
+        
+        int letter = value.charAt(0) - 'A';
+        if (letter < 0 || letter >= LETTERS) {
+            return NO_KEY;
+        }
+        
+        int number = 0;
+        for (int i = 1; i <= digits; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NO_KEY;
+            }
+            number = number * 10 + digit;
+        }
+        return letter * numbers + number;
+    }
+    
+    /**
+     * Encodes a value in the wide form without allocating: hierarchical
+     * slot addresses for SLOT_ID and plates for REGISTRATION.
+     * Canonical values have a wide form too, but are kept under encode.
+     * @param value The slot ID or registration
+     * @return The non-negative key, or NO_KEY
+     */
+    public long encodeWide(CharSequence value) {
+        return this == SLOT_ID ? SlotAddress.parse(value) : RegistrationKey.parse(value);
+    }
+    
+    /**
+     * Converts a wide key to the key encode gives the same value
+     * @param wideKey A key from encodeWide
+     * @return The key, or NO_KEY if the value is not in canonical form
+     */
+    public int narrow(long wideKey) {
+        if (this == SLOT_ID || wideKey <= 0 || RegistrationKey.lengthOf(wideKey) != digits + 1) {
+            return NO_KEY;
+        }
+        
+        int letter = RegistrationKey.charAt(wideKey, digits) - 'A';
+        if (letter < 0) {
+            return NO_KEY;
+        }
+        
+        int number = 0;
+        for (int i = digits - 1; i >= 0; i--) {
+            int digit = RegistrationKey.charAt(wideKey, i) - '0';
+            if (digit > 9) {
+                return NO_KEY;
+            }
+            number = number * 10 + digit;
+        }
+        return letter * numbers + number;
+    }
+    
+    /**
+     * Decodes a key back to its string form
+     * @param key A key returned by encode
+     * @return The slot ID or registration
+     * @throws IllegalArgumentException if the key is out of range
+     */
+    public String decode(int key) {
+        if (key < 0 || key >= capacity()) {
+            throw new IllegalArgumentException("Key out of range: " + key);
+        }
+        
+        char[] chars = new char[digits + 1];
+        chars[0] = (char) ('A' + key / numbers);
+        int number = key % numbers;
+        for (int i = digits; i >= 1; i--) {
+            chars[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(chars);
+    }
+}
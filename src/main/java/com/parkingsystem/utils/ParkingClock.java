@@ -0,0 +1,79 @@
+package com.parkingsystem.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Utility class holding the clock used for parking times and fees.
+ * Defaults to the system clock in the default time zone; tests and
+ * simulations can install a fixed or offset java.time.Clock instead,
+ * which makes parking durations and fees deterministic.
+ * 
+ * Parking times are kept as epoch milliseconds, so reading the clock and
+ * computing a duration never allocates.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+public final class ParkingClock {
+    
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    
+    // Private constructor to prevent instantiation
+    private ParkingClock() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+    
+    /**
+     * Gets the clock in use
+     * @return The current clock
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+    
+    /**
+     * Installs a clock, e.g. Clock.fixed for tests
+     * @param newClock The clock to use from now on
+     */
+    public static void setClock(Clock newClock) {
+        if (newClock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        clock = newClock;
+    }
+    
+    /**
+     * Restores the system clock
+     */
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+    }
+    
+    /**
+     * Gets the current time without allocating
+     * @return Current time in epoch milliseconds
+     */
+    public static long currentTimeMillis() {
+        return clock.millis();
+    }
+    
+    /**
+     * Converts epoch milliseconds to a local date-time in the clock's zone
+     * @param epochMillis The time to convert
+     * @return The local date-time
+     */
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+    
+    /**
+     * Converts a local date-time in the clock's zone to epoch milliseconds
+     * @param dateTime The time to convert
+     * @return Epoch milliseconds
+     */
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,46 @@
+package com.parkingsystem.utils;
+
+/**
+ * Bounded, lock-free interner for strings that repeat across many objects,
+ * such as owner names: regular visitors park every day, and every session
+ * or restore would otherwise keep its own copy of the name.
+ *
+ * A fixed table of recent strings is indexed by hash. A hit returns the
+ * stored instance; a miss stores the new one in place of whatever was
+ * there. Memory stays bounded however many names pass through, at the
+ * cost of occasionally keeping a duplicate. Strings are immutable, so
+ * racing writers can only lose a cache entry, never corrupt one.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public final class StringInterner {
+    
+    private static final int SIZE = 1 << 13;
+    private static final String[] TABLE = new String[SIZE];
+    
+    // Private constructor to prevent instantiation
+    private StringInterner() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+    
+    /**
+     * Returns a shared instance equal to the given string
+     * @param value The string, may be null
+     * @return An equal string, often one already in use elsewhere
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+        String cached = TABLE[index];
+        if (cached != null && cached.equals(value)) {
+            return cached;
+        }
+        TABLE[index] = value;
+        return value;
+    }
+}
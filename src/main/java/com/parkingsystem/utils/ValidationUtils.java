@@ -2,6 +2,8 @@ package com.parkingsystem.utils;
 
 import com.parkingsystem.exceptions.InvalidSlotIdException;
 import com.parkingsystem.exceptions.InvalidRegistrationException;
+import com.parkingsystem.models.RegistrationKey;
+import com.parkingsystem.models.SlotAddress;
 
 /**
  * Utility class for validation operations.
@@ -17,29 +19,21 @@ public final class ValidationUtils {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
     
+    private static final int SLOT_ID_DIGITS = 2;
+    private static final int REGISTRATION_DIGITS = 4;
+    
     /**
-     * Validates slot ID format (Letter + 2 digits)
+     * Validates slot ID format (Letter + 2 digits, or a hierarchical
+     * address such as F1-L2-A147)
      * @param slotId The slot ID to validate
      * @return true if valid
      * @throws InvalidSlotIdException if format is invalid
      */
     public static boolean validateSlotId(String slotId) throws InvalidSlotIdException {
-        if (slotId == null || slotId.length() != 3) {
-            throw new InvalidSlotIdException(slotId);
-        }
-        
-        char firstChar = slotId.charAt(0);
-        if (!Character.isUpperCase(firstChar) || !Character.isLetter(firstChar)) {
-            throw new InvalidSlotIdException(slotId);
-        }
-        
-        String digits = slotId.substring(1);
-        try {
-            Integer.parseInt(digits);
-            return true;
-        } catch (NumberFormatException e) {
+        if (!isValidSlotId(slotId)) {
             throw new InvalidSlotIdException(slotId);
         }
+        return true;
     }
     
     /**
@@ -49,47 +43,84 @@ public final class ValidationUtils {
      * @throws InvalidRegistrationException if format is invalid
      */
     public static boolean validateRegistration(String registration) throws InvalidRegistrationException {
-        if (registration == null || registration.length() != 5) {
-            throw new InvalidRegistrationException(registration);
-        }
-        
-        char firstChar = registration.charAt(0);
-        if (!Character.isUpperCase(firstChar) || !Character.isLetter(firstChar)) {
-            throw new InvalidRegistrationException(registration);
-        }
-        
-        String digits = registration.substring(1);
-        try {
-            Integer.parseInt(digits);
-            return true;
-        } catch (NumberFormatException e) {
+        if (!isValidRegistration(registration)) {
             throw new InvalidRegistrationException(registration);
         }
+        return true;
     }
     
     /**
-     * Checks if slot ID format is valid without throwing exception
+     * Checks if slot ID format is valid without throwing exception.
+     * Inspects characters in place, so it never allocates.
      * @param slotId The slot ID to check
      * @return true if valid, false otherwise
      */
     public static boolean isValidSlotId(String slotId) {
-        try {
-            return validateSlotId(slotId);
-        } catch (InvalidSlotIdException e) {
-            return false;
-        }
+        return hasLetterDigitsFormat(slotId, SLOT_ID_DIGITS) || SlotAddress.parse(slotId) != SlotAddress.NO_ADDRESS;
     }
     
     /**
-     * Checks if registration format is valid without throwing exception
+     * Checks if registration format is valid without throwing exception.
+     * Inspects characters in place, so it never allocates.
      * @param registration The registration to check
      * @return true if valid, false otherwise
      */
     public static boolean isValidRegistration(String registration) {
-        try {
-            return validateRegistration(registration);
-        } catch (InvalidRegistrationException e) {
+        return hasLetterDigitsFormat(registration, REGISTRATION_DIGITS);
+    }
+    
+    /**
+     * Validates a registration in any supported plate format: the domestic
+     * Letter + 4 digits, or up to 12 uppercase letters and digits
+     * @param registration The registration to validate
+     * @return true if valid
+     * @throws InvalidRegistrationException if format is invalid
+     */
+    public static boolean validatePlate(String registration) throws InvalidRegistrationException {
+        if (!isValidPlate(registration)) {
+            throw new InvalidRegistrationException(registration, RegistrationKey.MAX_LENGTH);
+        }
+        return true;
+    }
+    
+    /**
+     * Checks if a registration is in any supported plate format without
+     * throwing exception. Never allocates.
+     * @param registration The registration to check
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValidPlate(String registration) {
+        return isValidRegistration(registration) || RegistrationKey.parse(registration) != RegistrationKey.NO_KEY;
+    }
+    
+    /**
+     * Checks for an uppercase letter followed by a number of digits.
+     * Accepts exactly what Integer.parseInt accepted for the digits,
+     * including a leading sign and non-ASCII decimal digits.
+     * @param value The value to check
+     * @param digits Number of characters after the letter
+     * @return true if valid
+     */
+    private static boolean hasLetterDigitsFormat(String value, int digits) {
+        if (value == null || value.length() != digits + 1) {
+            return false;
+        }
+        
+        char firstChar = value.charAt(0);
+        if (!Character.isUpperCase(firstChar) || !Character.isLetter(firstChar)) {
             return false;
         }
+        
+        int first = 1;
+        char sign = value.charAt(1);
+        if (sign == '+' || sign == '-') {
+            first = 2;
+        }
+        for (int i = first; i <= digits; i++) {
+            if (Character.digit(value.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 }
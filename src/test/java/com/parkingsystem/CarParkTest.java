@@ -1,13 +1,24 @@
 package com.parkingsystem;
 
 import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.FeeCalculatorService;
+import com.parkingsystem.services.FeeSummary;
+import com.parkingsystem.services.OccupancySnapshot;
+import com.parkingsystem.services.ParkingOutcome;
 import com.parkingsystem.models.*;
 import com.parkingsystem.factory.ParkingSlotFactory;
 import com.parkingsystem.exceptions.*;
+import com.parkingsystem.utils.KeyCodec;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Unit tests for CarPark service.
@@ -48,6 +59,155 @@ public class CarParkTest {
         assertNotNull(carPark.findSlotById("S01"));
     }
     
+    @Test
+    @DisplayName("Slots and cars should be found by packed key and by non-canonical ID")
+    void testKeyLookups() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(new VisitorSlot("V100"));
+        carPark.parkCar("S01", new Car("A1234", "John", true));
+        carPark.parkCar("V100", new Car("R1", "Jane", false));
+        
+        assertSame(carPark.findSlotById("S01"), carPark.findSlotByKey(KeyCodec.SLOT_ID.encode("S01")));
+        assertSame(carPark.findSlotById("S01"), carPark.findCarByKey(KeyCodec.REGISTRATION.encode("A1234")));
+        assertNull(carPark.findSlotByKey(KeyCodec.NO_KEY));
+        assertEquals("V100", carPark.findCarByRegistration("R1").getSlotId());
+        
+        assertThrows(DuplicateSlotException.class, () -> carPark.addSlot(new StaffSlot("S01")));
+        assertThrows(DuplicateSlotException.class, () -> carPark.addSlot(new StaffSlot("V100")));
+        
+        carPark.removeCar("A1234");
+        carPark.removeCar("R1");
+        carPark.removeSlot("V100");
+        assertNull(carPark.findCarByKey(KeyCodec.REGISTRATION.encode("A1234")));
+        assertNull(carPark.findSlotById("V100"));
+        assertEquals(1, carPark.getTotalSlots());
+    }
+    
+    @Test
+    @DisplayName("try methods should report outcomes without throwing")
+    void testOutcomes() throws Exception {
+        assertEquals(ParkingOutcome.SUCCESS, carPark.tryAddSlot(ParkingSlotFactory.createStaffSlot("S01")));
+        assertEquals(ParkingOutcome.DUPLICATE_SLOT, carPark.tryAddSlot(ParkingSlotFactory.createStaffSlot("S01")));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        
+        Car staffCar = new Car("A1234", "John", true);
+        assertEquals(ParkingOutcome.SLOT_NOT_FOUND, carPark.tryParkCar("S99", staffCar));
+        assertEquals(ParkingOutcome.SLOT_TYPE_MISMATCH, carPark.tryParkCar("V01", staffCar));
+        assertEquals(ParkingOutcome.SUCCESS, carPark.tryParkCar("S01", staffCar));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, carPark.tryParkCar("S01", staffCar));
+        assertEquals(ParkingOutcome.SLOT_OCCUPIED, carPark.tryParkCar("S01", new Car("A5678", "Jim", true)));
+        assertEquals(ParkingOutcome.NO_AVAILABLE_SLOT, carPark.tryParkAnywhere(new Car("A5678", "Jim", true)));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, carPark.tryParkAnywhere(staffCar));
+        
+        assertEquals(ParkingOutcome.SLOT_OCCUPIED, carPark.tryRemoveSlot("S01"));
+        assertEquals(ParkingOutcome.SUCCESS, carPark.tryRemoveCar("A1234"));
+        assertEquals(ParkingOutcome.CAR_NOT_FOUND, carPark.tryRemoveCar("A1234"));
+        assertEquals(ParkingOutcome.SUCCESS, carPark.tryRemoveSlot("S01"));
+        assertEquals(ParkingOutcome.SLOT_NOT_FOUND, carPark.tryRemoveSlot("S01"));
+        
+        SlotTypeMismatchException mismatch = assertThrows(SlotTypeMismatchException.class,
+            () -> carPark.parkCar("V01", new Car("A1111", "Ann", true)));
+        assertEquals(ParkingOutcome.SLOT_TYPE_MISMATCH.getErrorCode(), mismatch.getErrorCode());
+        assertTrue(mismatch.getMessage().startsWith("Type mismatch: Visitor slot"));
+        assertEquals(0, mismatch.getStackTrace().length, "Outcome exceptions skip stack traces");
+        
+        InvalidSlotIdException invalid = assertThrows(InvalidSlotIdException.class,
+            () -> ParkingSlotFactory.createStaffSlot("S100"));
+        assertTrue(invalid.getStackTrace().length > 0, "Validation errors keep stack traces");
+    }
+    
+    @Test
+    @DisplayName("Parking and removing a list of cars should report an outcome per item")
+    void testParkAndRemoveEach() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        Car jane = new Car("B1234", "Jane", false);
+        
+        ParkingOutcome[] parked = carPark.tryParkEach(List.of(
+            Map.entry("S01", new Car("A1234", "John", true)),
+            Map.entry("V01", jane),
+            Map.entry("V01", new Car("B5678", "Jim", false)),
+            Map.entry("V02", jane),
+            Map.entry("V09", new Car("B9999", "Ann", false))));
+        
+        assertArrayEquals(new ParkingOutcome[] {ParkingOutcome.SUCCESS, ParkingOutcome.SUCCESS,
+            ParkingOutcome.SLOT_OCCUPIED, ParkingOutcome.DUPLICATE_CAR, ParkingOutcome.SLOT_NOT_FOUND}, parked);
+        assertEquals(2, carPark.getOccupiedCount());
+        
+        Car[] removedCars = new Car[3];
+        ParkingOutcome[] removed = carPark.tryRemoveEach(List.of("B1234", "B5678", "A1234"), removedCars);
+        
+        assertArrayEquals(new ParkingOutcome[] {ParkingOutcome.SUCCESS, ParkingOutcome.CAR_NOT_FOUND,
+            ParkingOutcome.SUCCESS}, removed);
+        assertSame(jane, removedCars[0]);
+        assertNull(removedCars[1]);
+        assertEquals(0, carPark.getOccupiedCount());
+    }
+    
+    @Test
+    @DisplayName("Cars with plates of other formats should be found by string and key")
+    void testInternationalPlates() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        
+        carPark.parkCar("V01", new Car("KA01AB1234", "Jane", false));
+        carPark.parkCar("V02", new Car("B1234", "John", false));
+        
+        assertEquals("V01", carPark.findCarByRegistration("KA01AB1234").getSlotId());
+        assertEquals("V01", carPark.findCarByRegistrationKey(RegistrationKey.parse("KA01AB1234")).getSlotId());
+        assertEquals("V02", carPark.findCarByRegistrationKey(RegistrationKey.parse("B1234")).getSlotId());
+        assertNull(carPark.findCarByRegistrationKey(RegistrationKey.parse("0KA01AB1234")));
+        assertThrows(DuplicateCarException.class, () -> carPark.parkCar("V02", new Car("KA01AB1234", "Jane", false)));
+        
+        carPark.removeCar("KA01AB1234");
+        assertNull(carPark.findCarByRegistration("KA01AB1234"));
+    }
+    
+    @Test
+    @DisplayName("addSlots should add a batch in order and report duplicates")
+    void testAddSlots() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("F1-L2-S3"));
+        List<ParkingSlot> slots = ParkingSlotFactory.createLevels(1, 1, 4, 10, 20);
+        
+        ParkingOutcome[] outcomes = carPark.addSlots(slots);
+        
+        assertEquals(ParkingOutcome.DUPLICATE_SLOT, outcomes[30 + 2]);
+        assertEquals(slots.size() - 1, Arrays.stream(outcomes).filter(ParkingOutcome::isSuccess).count());
+        assertEquals(4 * 10, carPark.getTotalSlots(ParkingSlotFactory.SlotType.STAFF));
+        assertEquals(4 * 20, carPark.getTotalSlots(ParkingSlotFactory.SlotType.VISITOR));
+        assertEquals("F1-L1-S1", carPark.getAllSlots().get(1).getSlotId());
+        assertEquals("F1-L4-V20", carPark.getAllSlots().get(slots.size() - 1).getSlotId());
+        assertNotNull(carPark.parkAnywhere(new Car("B1234", "Jane", false)));
+    }
+    
+    @Test
+    @DisplayName("Hierarchical slot addresses should scale past 2,600 slots")
+    void testHierarchicalSlots() throws Exception {
+        int levels = 10;
+        int bays = 5000;
+        for (int level = 1; level <= levels; level++) {
+            for (int bay = 1; bay <= bays; bay++) {
+                String slotId = SlotAddress.format(SlotAddress.pack(1, level, 'V', bay));
+                carPark.addSlot(ParkingSlotFactory.createVisitorSlot(slotId));
+            }
+        }
+        
+        assertEquals(levels * bays, carPark.getTotalSlots());
+        assertEquals("F1-L7-V4321", carPark.findSlotById("F1-L7-V4321").getSlotId());
+        assertSame(carPark.findSlotById("F1-L7-V4321"), carPark.findSlotByAddress(SlotAddress.pack(1, 7, 'V', 4321)));
+        assertNull(carPark.findSlotById("F1-L11-V1"));
+        
+        carPark.parkCar("F1-L3-V17", new Car("B1234", "Jane", false));
+        assertEquals("F1-L3-V17", carPark.findCarByRegistration("B1234").getSlotId());
+        
+        carPark.removeSlot("F1-L9-V9");
+        assertNull(carPark.findSlotByAddress(SlotAddress.pack(1, 9, 'V', 9)));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("F1-L9-V9"));
+        assertNotNull(carPark.findSlotById("F1-L9-V9"));
+        assertThrows(DuplicateSlotException.class, () -> carPark.addSlot(ParkingSlotFactory.createVisitorSlot("F1-L9-V9")));
+    }
+    
     @Test
     @DisplayName("Should throw DuplicateSlotException for duplicate ID")
     void testAddDuplicateSlot() throws Exception {
@@ -198,4 +358,160 @@ public class CarParkTest {
         assertEquals(2, available.size());
         assertEquals(2, occupied.size());
     }
+    
+    @Test
+    @DisplayName("parkAnywhere should pick a free slot of the car's type")
+    void testParkAnywhere() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        
+        ParkingSlot staff = carPark.parkAnywhere(new Car("A0001", "John", true));
+        ParkingSlot visitor = carPark.parkAnywhere(new Car("B0001", "Jane", false));
+        
+        assertEquals("S01", staff.getSlotId());
+        assertEquals("V01", visitor.getSlotId());
+        assertSame(visitor, carPark.findCarByRegistration("B0001"));
+        assertEquals(2, carPark.getOccupiedCount());
+    }
+    
+    @Test
+    @DisplayName("parkAnywhere should throw when no slot of the type is free")
+    void testParkAnywhereExhausted() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("S01", new Car("A0001", "John", true));
+        
+        assertThrows(NoAvailableSlotException.class, () -> {
+            carPark.parkAnywhere(new Car("A0002", "Bob", true));
+        });
+        assertNull(carPark.parkAnywhereSafe(new Car("A0003", "Ann", true)));
+    }
+    
+    @Test
+    @DisplayName("Removed cars and slots should be returned to and dropped from the pool")
+    void testParkAnywherePoolMaintenance() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        carPark.removeSlot("V01");
+        
+        assertEquals("V02", carPark.parkAnywhere(new Car("B0001", "Jane", false)).getSlotId());
+        assertThrows(NoAvailableSlotException.class, () -> {
+            carPark.parkAnywhere(new Car("B0002", "Tom", false));
+        });
+        
+        carPark.removeCar("B0001");
+        assertEquals("V02", carPark.parkAnywhere(new Car("B0002", "Tom", false)).getSlotId());
+        
+        assertThrows(DuplicateCarException.class, () -> {
+            carPark.parkAnywhere(new Car("B0002", "Tom", false));
+        });
+    }
+    
+    @Test
+    @DisplayName("Removed slots should not accumulate in the pool under churn")
+    void testPoolBoundedUnderSlotChurn() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        for (int i = 0; i < 10_000; i++) {
+            carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+            carPark.removeSlot("V02");
+        }
+        
+        assertTrue(carPark.getPooledCount(ParkingSlotFactory.SlotType.VISITOR) <= 66,
+            "Pool grew to " + carPark.getPooledCount(ParkingSlotFactory.SlotType.VISITOR));
+        assertEquals("V01", carPark.parkAnywhere(new Car("B0001", "Jane", false)).getSlotId());
+        assertNull(carPark.parkAnywhereSafe(new Car("B0002", "Tom", false)));
+    }
+    
+    @Test
+    @DisplayName("Occupancy counters should track each slot type")
+    void testOccupancyCountersPerType() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S02"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V03"));
+        
+        carPark.parkCar("S01", new Car("A0001", "John", true));
+        carPark.parkCar("V01", new Car("B0001", "Jane", false));
+        carPark.parkAnywhere(new Car("B0002", "Tom", false));
+        
+        OccupancySnapshot snapshot = carPark.readOccupancy(new OccupancySnapshot());
+        assertEquals(2, snapshot.getTotal(ParkingSlotFactory.SlotType.STAFF));
+        assertEquals(1, snapshot.getOccupied(ParkingSlotFactory.SlotType.STAFF));
+        assertEquals(3, snapshot.getTotal(ParkingSlotFactory.SlotType.VISITOR));
+        assertEquals(2, snapshot.getOccupied(ParkingSlotFactory.SlotType.VISITOR));
+        assertEquals(1, snapshot.getAvailable(ParkingSlotFactory.SlotType.VISITOR));
+        
+        carPark.removeCar("B0001");
+        carPark.removeSlot("S02");
+        assertEquals(2, carPark.removeAllUnoccupiedSlots());
+        
+        carPark.readOccupancy(snapshot);
+        assertEquals(1, snapshot.getTotal(ParkingSlotFactory.SlotType.STAFF));
+        assertEquals(1, snapshot.getTotal(ParkingSlotFactory.SlotType.VISITOR));
+        assertEquals(2, snapshot.getOccupied());
+        assertEquals(0, snapshot.getAvailable());
+        assertEquals(carPark.getOccupiedCount(), snapshot.getOccupied());
+        
+        carPark.clear();
+        assertEquals(0, carPark.readOccupancy(snapshot).getTotal());
+    }
+    
+    @Test
+    @DisplayName("Slot views should be live, read-only and match the copying methods")
+    void testSlotViews() throws Exception {
+        for (int i = 1; i <= 4; i++) {
+            carPark.addSlot(ParkingSlotFactory.createStaffSlot(String.format("S%02d", i)));
+        }
+        carPark.parkCar("S02", new Car("A0002", "John", true));
+        
+        Collection<ParkingSlot> view = carPark.getAllSlotsView();
+        assertEquals(4, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+        
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S05"));
+        assertEquals(5, view.size());
+        
+        assertEquals(carPark.getAvailableSlots(), carPark.streamAvailableSlots().collect(Collectors.toList()));
+        assertEquals(carPark.getOccupiedSlots(), carPark.streamOccupiedSlots().collect(Collectors.toList()));
+        
+        List<ParkingSlot> visited = new ArrayList<>();
+        carPark.forEachAvailableSlot(visited::add);
+        assertEquals(carPark.getAvailableSlots(), visited);
+        
+        visited.clear();
+        carPark.forEachOccupiedSlot(visited::add);
+        assertEquals(List.of(carPark.findSlotById("S02")), visited);
+    }
+    
+    @Test
+    @DisplayName("Bulk fee evaluation should bill every parked car to one timestamp")
+    void testEvaluateFees() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S02"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        
+        Car staff = new Car("A0001", "John", true);
+        Car visitor = new Car("B0001", "Jane", false);
+        carPark.parkCar("S01", staff);
+        carPark.parkCar("V01", visitor);
+        staff.setParkingTimeMillis(0);
+        visitor.setParkingTimeMillis(Duration.ofHours(1).toMillis());
+        long now = Duration.ofHours(4).plusMinutes(30).toMillis();
+        
+        for (boolean parallel : new boolean[] {false, true}) {
+            FeeSummary summary = carPark.evaluateFees(null, now, parallel);
+            assertEquals(2, summary.getCarCount());
+            assertEquals(12.0, summary.getTotalFees(ParkingSlotFactory.SlotType.STAFF));
+            assertEquals(15.0, summary.getTotalFees(ParkingSlotFactory.SlotType.VISITOR));
+            assertEquals(27.0, summary.getTotalFees());
+            assertEquals(now, summary.getEvaluatedAtMillis());
+        }
+        
+        FeeSummary flat = carPark.evaluateFees(new FeeCalculatorService.StandardFeeCalculator(2.0), now, false);
+        assertEquals(14.0, flat.getTotalFees());
+        assertEquals(8.0, flat.getAverageFee(ParkingSlotFactory.SlotType.STAFF));
+    }
 }
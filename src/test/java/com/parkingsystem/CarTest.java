@@ -36,6 +36,14 @@ public class CarTest {
         assertFalse(visitorCar.isStaff());
     }
     
+    @Test
+    @DisplayName("Equal owner names should share one instance")
+    void testOwnerNameInterned() {
+        Car first = new Car("B1234", new String("Jane Doe"), false);
+        Car second = new Car("C1234", new String("Jane Doe"), false);
+        assertSame(first.getOwnerName(), second.getOwnerName());
+    }
+    
     @Test
     @DisplayName("Parking time should be null initially")
     void testInitialParkingTime() {
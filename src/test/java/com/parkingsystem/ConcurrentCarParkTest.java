@@ -0,0 +1,260 @@
+package com.parkingsystem;
+
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.CarParkSnapshot;
+import com.parkingsystem.models.*;
+import com.parkingsystem.factory.ParkingSlotFactory;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-threaded stress tests for CarPark.
+ * Verifies that no slot is double-parked and no car-to-slot entry is lost
+ * while many threads park and remove cars at the same time.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class ConcurrentCarParkTest {
+
+    private static final int THREADS = 8;
+    private static final int SLOTS = 50;
+
+    private CarPark carPark;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        executor = Executors.newFixedThreadPool(THREADS + 1);
+
+        for (int i = 0; i < SLOTS; i++) {
+            carPark.addSlot(ParkingSlotFactory.createStaffSlot(String.format("S%02d", i)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        carPark.clear();
+    }
+
+    @Test
+    @DisplayName("Concurrent parks into the same slots should never double-park")
+    void testNoDoubleParking() throws Exception {
+        AtomicInteger parked = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < SLOTS; i++) {
+                Car car = new Car(String.format("A%04d", thread * 1000 + i), "Owner", true);
+                if (carPark.parkCarSafe(String.format("S%02d", i), car)) {
+                    parked.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(SLOTS, parked.get());
+        assertEquals(SLOTS, carPark.getOccupiedCount());
+        assertEquals(0, carPark.getAvailableCount());
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("The same registration should be parked at most once")
+    void testNoDuplicateRegistration() throws Exception {
+        AtomicInteger parked = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = thread; i < SLOTS; i += THREADS) {
+                if (carPark.parkCarSafe(String.format("S%02d", i), new Car("A1234", "John", true))) {
+                    parked.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(1, parked.get());
+        assertEquals(1, carPark.getOccupiedCount());
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Park/remove churn should keep slots and registrations in sync")
+    void testParkRemoveChurn() throws Exception {
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < 20_000; i++) {
+                String registration = String.format("A%04d", random.nextInt(200));
+                int action = random.nextInt(3);
+                if (action == 0) {
+                    String slotId = String.format("S%02d", random.nextInt(SLOTS));
+                    carPark.parkCarSafe(slotId, new Car(registration, "Owner", true));
+                } else if (action == 1) {
+                    carPark.parkAnywhereSafe(new Car(registration, "Owner", true));
+                } else {
+                    carPark.removeCarSafe(registration);
+                }
+            }
+        });
+
+        assertConsistent();
+        assertEquals(SLOTS, carPark.getOccupiedCount() + carPark.getAvailableCount());
+    }
+
+    @Test
+    @DisplayName("Concurrent parkAnywhere should hand out each free slot once")
+    void testParkAnywhereContention() throws Exception {
+        AtomicInteger parked = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < SLOTS; i++) {
+                Car car = new Car(String.format("A%04d", thread * 1000 + i), "Owner", true);
+                if (carPark.parkAnywhereSafe(car) != null) {
+                    parked.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(SLOTS, parked.get());
+        assertEquals(0, carPark.getAvailableCount());
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Slot removal racing with parking should never strand a car")
+    void testRemoveSlotRacingPark() throws Exception {
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < 20_000; i++) {
+                String slotId = String.format("S%02d", random.nextInt(SLOTS));
+                switch (random.nextInt(4)) {
+                    case 0:
+                        carPark.removeSlotSafe(slotId);
+                        break;
+                    case 1:
+                        carPark.addSlotSafe(ParkingSlotFactory.createStaffSlot(slotId));
+                        break;
+                    case 2:
+                        carPark.parkCarSafe(slotId, new Car(String.format("A%04d", random.nextInt(200)), "Owner", true));
+                        break;
+                    default:
+                        carPark.removeCarSafe(String.format("A%04d", random.nextInt(200)));
+                }
+            }
+        });
+
+        assertConsistent();
+        for (int i = 0; i < 200; i++) {
+            String registration = String.format("A%04d", i);
+            ParkingSlot slot = carPark.findCarByRegistration(registration);
+            if (slot != null) {
+                assertSame(slot, carPark.findSlotById(slot.getSlotId()), "Car parked in a removed slot");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots taken while cars move should never show a car twice")
+    void testSnapshotConsistentDuringChurn() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> snapshots = executor.submit(() -> {
+            try {
+                while (running.get()) {
+                    CarParkSnapshot snapshot = carPark.takeSnapshot();
+                    Set<String> seen = new HashSet<>();
+                    for (CarParkSnapshot.SlotRecord slot : snapshot.getSlots()) {
+                        if (slot.isOccupied()) {
+                            assertTrue(seen.add(slot.getCar().getRegistrationNumber()),
+                                       "Car in two slots in one snapshot: " + slot.getCar());
+                        }
+                    }
+                    assertEquals(SLOTS, snapshot.getTotalSlots());
+                }
+            } finally {
+                running.set(false);
+            }
+            return null;
+        });
+
+        try {
+            runConcurrently(thread -> {
+                Random random = new Random(thread);
+                for (int i = 0; i < 20_000 && running.get(); i++) {
+                    String registration = String.format("A%04d", random.nextInt(20));
+                    String slotId = String.format("S%02d", random.nextInt(SLOTS));
+                    carPark.removeCarSafe(registration);
+                    carPark.parkCarSafe(slotId, new Car(registration, "Owner", true));
+                }
+            });
+        } finally {
+            running.set(false);
+        }
+
+        snapshots.get(60, TimeUnit.SECONDS);
+        assertConsistent();
+    }
+
+    /**
+     * Checks that every occupied slot has a matching registration entry and vice versa
+     */
+    private void assertConsistent() {
+        Set<String> seen = new HashSet<>();
+        int occupied = 0;
+
+        for (ParkingSlot slot : carPark.getAllSlots()) {
+            Car car = slot.getParkedCar();
+            if (car == null) continue;
+
+            occupied++;
+            assertTrue(seen.add(car.getRegistrationNumber()), "Car parked twice: " + car);
+            assertSame(slot, carPark.findCarByRegistration(car.getRegistrationNumber()),
+                       "Lost car-to-slot entry for " + car);
+        }
+
+        assertEquals(occupied, carPark.getOccupiedCount());
+        assertEquals(carPark.getAllSlots().size(), carPark.getTotalSlots());
+    }
+
+    @Test
+    @DisplayName("Threads racing on a reset singleton should all get the same instance")
+    void testSingletonRace() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            CarPark.resetInstance();
+            Set<CarPark> seen = ConcurrentHashMap.newKeySet();
+
+            runConcurrently(thread -> seen.add(CarPark.getInstance()));
+
+            assertEquals(1, seen.size());
+            assertSame(CarPark.getInstance(), seen.iterator().next());
+        }
+    }
+
+    private void runConcurrently(IntConsumerTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(thread);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntConsumerTask {
+        void run(int thread) throws Exception;
+    }
+}
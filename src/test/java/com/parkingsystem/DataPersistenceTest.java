@@ -0,0 +1,183 @@
+package com.parkingsystem;
+
+import com.parkingsystem.persistence.CheckpointScheduler;
+import com.parkingsystem.persistence.DataPersistence;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.models.*;
+import com.parkingsystem.factory.ParkingSlotFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for DataPersistence.
+ * Tests JSON save and restore round trips.
+ * 
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class DataPersistenceTest {
+    
+    private static final LocalDateTime PARKED_AT = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+    
+    @TempDir
+    Path tempDir;
+    
+    private CarPark carPark;
+    private DataPersistence persistence;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        persistence = new DataPersistence();
+        
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        
+        Car car = new Car("B1234", "Jane", false);
+        carPark.parkCar("V01", car);
+        car.setParkingTime(PARKED_AT);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        carPark.clear();
+    }
+    
+    @Test
+    @DisplayName("Streaming save should produce the same layout as saveToFile")
+    void testStreamingSaveLayout() throws Exception {
+        Path file = tempDir.resolve("compact.json");
+        persistence.saveToFileStreaming(carPark, file.toString(), true);
+        
+        assertEquals(1, Files.readAllLines(file).size());
+        
+        Map<String, Object> data = persistence.loadFromFile(file.toString());
+        assertEquals("2.0", data.get("version"));
+        assertEquals(3.0, data.get("totalSlots"));
+        assertEquals(1.0, data.get("occupiedSlots"));
+        assertEquals(3, ((List<?>) data.get("slots")).size());
+    }
+    
+    @Test
+    @DisplayName("Streaming restore should rebuild slots in order with parked cars")
+    void testStreamingRoundTrip() throws Exception {
+        Path file = tempDir.resolve("pretty.json");
+        persistence.saveToFileStreaming(carPark, file.toString(), false);
+        
+        carPark.clear();
+        assertEquals(3, persistence.loadIntoCarPark(carPark, file.toString()));
+        assertRestored();
+    }
+    
+    @Test
+    @DisplayName("Streaming restore should read files written by saveToFile")
+    void testRestoreLegacyFile() throws Exception {
+        Path file = tempDir.resolve("legacy.json");
+        persistence.saveToFile(carPark, file.toString());
+        
+        carPark.clear();
+        assertEquals(3, persistence.loadIntoCarPark(carPark, file.toString()));
+        assertRestored();
+    }
+    
+    @Test
+    @DisplayName("Binary snapshots should restore through the same loader as JSON")
+    void testBinaryRoundTrip() throws Exception {
+        Path file = tempDir.resolve("snapshot.bin");
+        persistence.saveToBinaryFile(carPark, file.toString());
+        
+        carPark.clear();
+        assertEquals(3, persistence.loadIntoCarPark(carPark, file.toString()));
+        assertRestored();
+    }
+    
+    @Test
+    @DisplayName("Binary snapshots should keep cars without an owner name and replace files whole")
+    void testBinaryNullOwner() throws Exception {
+        Path file = tempDir.resolve("snapshot.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        carPark.parkCar("S01", new Car("A1234", null, true));
+        persistence.saveToBinaryFile(carPark, file.toString());
+        
+        carPark.clear();
+        assertEquals(3, persistence.loadIntoCarPark(carPark, file.toString()));
+        assertEquals("S01", carPark.findCarByRegistration("A1234").getSlotId());
+        assertNull(carPark.findSlotById("S01").getParkedCar().getOwnerName());
+        assertEquals("Jane", carPark.findSlotById("V01").getParkedCar().getOwnerName());
+        assertFalse(Files.exists(tempDir.resolve("snapshot.bin.tmp")));
+    }
+    
+    @Test
+    @DisplayName("A truncated binary snapshot should fail and leave the car park empty")
+    void testTruncatedBinarySnapshot() throws Exception {
+        Path file = tempDir.resolve("snapshot.bin");
+        persistence.saveToBinaryFile(carPark, file.toString());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+        
+        carPark.clear();
+        assertThrows(IOException.class, () -> persistence.loadIntoCarPark(carPark, file.toString()));
+        assertEquals(0, carPark.getTotalSlots());
+    }
+    
+    @Test
+    @DisplayName("The checkpoint scheduler should write snapshots in the background")
+    void testCheckpointScheduler() throws Exception {
+        Path file = tempDir.resolve("checkpoint.json");
+        
+        try (CheckpointScheduler scheduler = new CheckpointScheduler(carPark, persistence, null, file.toString(), 20)) {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (scheduler.getLastCheckpointMillis() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertNotEquals(0, scheduler.getLastCheckpointMillis());
+            
+            scheduler.checkpointNow();
+            assertNull(scheduler.getLastError());
+        }
+        
+        carPark.clear();
+        assertEquals(3, persistence.loadIntoCarPark(carPark, file.toString()));
+        assertRestored();
+    }
+    
+    @Test
+    @DisplayName("A failed restore should leave the car park empty")
+    void testFailedRestoreClears() throws Exception {
+        Path file = tempDir.resolve("corrupt.json");
+        Files.writeString(file, "{\"slots\":[{\"slotId\":\"S01\",\"slotType\":\"Staff\"},"
+            + "{\"slotId\":\"V01\",\"slotType\":\"Visitor\",\"car\":{\"registrationNumber\":\"B1234\","
+            + "\"ownerName\":\"Jane\",\"isStaff\":false,\"parkingTime\":\"yesterday\"}}]}");
+        
+        carPark.clear();
+        assertThrows(IOException.class, () -> persistence.loadIntoCarPark(carPark, file.toString()));
+        assertEquals(0, carPark.getTotalSlots());
+        assertNull(carPark.findCarByRegistration("B1234"));
+    }
+    
+    private void assertRestored() {
+        List<ParkingSlot> slots = carPark.getAllSlots();
+        assertEquals(List.of("S01", "V01", "V02"), slots.stream().map(ParkingSlot::getSlotId).toList());
+        assertTrue(slots.get(0) instanceof StaffSlot);
+        assertTrue(slots.get(1) instanceof VisitorSlot);
+        
+        ParkingSlot slot = carPark.findCarByRegistration("B1234");
+        assertNotNull(slot);
+        assertEquals("V01", slot.getSlotId());
+        assertEquals("Jane", slot.getParkedCar().getOwnerName());
+        assertEquals(PARKED_AT, slot.getParkedCar().getParkingTime());
+        assertEquals(1, carPark.getOccupiedCount());
+        assertEquals(2, carPark.getAvailableCount());
+    }
+}
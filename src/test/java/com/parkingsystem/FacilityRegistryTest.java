@@ -0,0 +1,122 @@
+package com.parkingsystem;
+
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.FacilityRegistry;
+import com.parkingsystem.services.ParkingOutcome;
+import com.parkingsystem.models.*;
+import com.parkingsystem.factory.ParkingSlotFactory;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+/**
+ * Unit tests for FacilityRegistry.
+ * Tests facility isolation and the global registration index.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class FacilityRegistryTest {
+
+    private FacilityRegistry registry;
+    private CarPark north;
+    private CarPark south;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new FacilityRegistry();
+        north = registry.openFacility("north");
+        south = registry.openFacility("south");
+        for (CarPark carPark : new CarPark[] {north, south}) {
+            carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+            carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        }
+    }
+
+    @Test
+    @DisplayName("Facilities should be independent of each other and of the singleton")
+    void testFacilitiesAreIndependent() throws Exception {
+        assertSame(north, registry.openFacility("north"));
+        assertNotSame(north, south);
+        assertNotSame(CarPark.getInstance(), north);
+        assertEquals(Set.of("north", "south"), registry.getFacilityIds());
+
+        assertEquals(ParkingOutcome.SUCCESS, registry.parkCar("north", "S01", new Car("A1234", "John", true)));
+        assertTrue(north.findSlotById("S01").isOccupied());
+        assertFalse(south.findSlotById("S01").isOccupied());
+        assertEquals(ParkingOutcome.FACILITY_NOT_FOUND, registry.parkCar("east", "S01", new Car("A5678", "Jim", true)));
+    }
+
+    @Test
+    @DisplayName("A car should be found and removed without knowing its facility")
+    void testGlobalIndex() throws Exception {
+        Car car = new Car("B1234", "Jane", false);
+        assertEquals(ParkingOutcome.SUCCESS, registry.parkAnywhere("south", car));
+
+        assertEquals("south", registry.findFacilityOf("B1234"));
+        assertSame(south.findSlotById("V01"), registry.findCarByRegistration("B1234"));
+        assertEquals(1, registry.getOccupiedCount());
+
+        assertSame(car, registry.removeCar("B1234"));
+        assertNull(registry.findFacilityOf("B1234"));
+        assertNull(registry.removeCar("B1234"));
+    }
+
+    @Test
+    @DisplayName("A car should not be parked in two facilities at once")
+    void testNoDuplicateAcrossFacilities() throws Exception {
+        assertEquals(ParkingOutcome.SUCCESS, registry.parkCar("north", "V01", new Car("B1234", "Jane", false)));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, registry.parkCar("south", "V01", new Car("B1234", "Jane", false)));
+        assertFalse(south.findSlotById("V01").isOccupied());
+
+        // A failed park releases the global claim
+        assertEquals(ParkingOutcome.SLOT_TYPE_MISMATCH, registry.parkCar("south", "S01", new Car("B5678", "Jim", false)));
+        assertNull(registry.findFacilityOf("B5678"));
+    }
+
+    @Test
+    @DisplayName("The index should follow changes made directly on a facility")
+    void testIndexFollowsDirectChanges() throws Exception {
+        north.parkCar("S01", new Car("A1234", "John", true));
+        assertEquals("north", registry.findFacilityOf("A1234"));
+
+        north.removeCar("A1234");
+        assertNull(registry.findFacilityOf("A1234"));
+
+        north.parkCar("S01", new Car("A1234", "John", true));
+        assertSame(north, registry.closeFacility("north"));
+        assertNull(registry.findFacilityOf("A1234"));
+        assertNull(registry.getFacility("north"));
+    }
+
+    @Test
+    @DisplayName("A car parked in one facility should not be parked directly in another")
+    void testNoDuplicateThroughDirectPark() throws Exception {
+        Car car = new Car("B1234", "Jane", false);
+        assertEquals(ParkingOutcome.SUCCESS, north.tryParkCar("V01", car));
+        car.setParkingTimeMillis(car.getParkingTimeMillis() - 3 * 3_600_000L);
+        long parkedAt = car.getParkingTimeMillis();
+        
+        // A rejected attempt with the same car must not restart its stay
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, south.tryParkCar("V01", car));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, south.tryParkAnywhere(car));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, registry.parkCar("south", "V01", car));
+        assertEquals(parkedAt, car.getParkingTimeMillis());
+        assertSame(car, north.findSlotById("V01").getParkedCar());
+        
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, south.tryParkCar("V01", new Car("B1234", "Jane", false)));
+        assertEquals(ParkingOutcome.DUPLICATE_CAR, south.tryParkAnywhere(new Car("B1234", "Jane", false)));
+        assertFalse(south.findSlotById("V01").isOccupied());
+        assertEquals(0, south.getOccupiedCount());
+        assertNull(south.findCarByRegistration("B1234"));
+
+        assertSame(car, registry.removeCar("B1234"));
+        assertNull(registry.findFacilityOf("B1234"));
+
+        // Once the car has left, the other facility can take it
+        assertEquals(ParkingOutcome.SUCCESS, south.tryParkCar("V01", new Car("B1234", "Jane", false)));
+        assertEquals("south", registry.findFacilityOf("B1234"));
+        assertSame(south.findSlotById("V01"), registry.findCarByRegistration("B1234"));
+    }
+}
@@ -7,6 +7,8 @@ import com.parkingsystem.exceptions.*;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 /**
  * Unit tests for ParkingSlotFactory.
  * Tests Factory Design Pattern implementation.
@@ -93,4 +95,30 @@ public class FactoryTest {
         assertNotNull(slot);
         assertFalse(slot.isStaffSlot());
     }
+    
+    @Test
+    @DisplayName("createLevels should lay out staff and visitor bays level by level")
+    void testCreateLevels() throws Exception {
+        List<ParkingSlot> slots = ParkingSlotFactory.createLevels(1, 1, 8, 100, 400);
+        
+        assertEquals(8 * 500, slots.size());
+        assertEquals("F1-L1-S1", slots.get(0).getSlotId());
+        assertTrue(slots.get(0).isStaffSlot());
+        assertEquals("F1-L1-V1", slots.get(100).getSlotId());
+        assertFalse(slots.get(100).isStaffSlot());
+        assertEquals("F1-L8-V400", slots.get(slots.size() - 1).getSlotId());
+        
+        assertEquals(3, ParkingSlotFactory.createRange(2, 5, 'A', 10, 12, SlotType.VISITOR).size());
+        assertEquals(8 * 400, ParkingSlotFactory.createLevels(1, 1, 8, 0, 400).size());
+    }
+    
+    @Test
+    @DisplayName("Ranges reaching invalid addresses should be rejected")
+    void testInvalidRanges() {
+        assertThrows(InvalidSlotIdException.class, () -> ParkingSlotFactory.createLevels(1, 99, 100, 1, 1));
+        assertThrows(InvalidSlotIdException.class, () -> ParkingSlotFactory.createRange(1, 1, 'a', 1, 10, SlotType.STAFF));
+        assertThrows(InvalidSlotIdException.class, () -> ParkingSlotFactory.createRange(1, 1, 'A', 1, 10000, SlotType.STAFF));
+        assertThrows(IllegalArgumentException.class, () -> ParkingSlotFactory.createRange(1, 1, 'A', 5, 4, SlotType.STAFF));
+        assertThrows(IllegalArgumentException.class, () -> ParkingSlotFactory.createLevels(1, 1, 2, -1, 4));
+    }
 }
@@ -0,0 +1,132 @@
+package com.parkingsystem;
+
+import com.parkingsystem.factory.ParkingSlotFactory;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.OccupancyEventStream;
+import com.parkingsystem.services.OccupancyEventStream.Kind;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for OccupancyEventStream.
+ * Tests publication order, independent consumers and overwritten events.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class OccupancyEventStreamTest {
+
+    private CarPark carPark;
+
+    @BeforeEach
+    void setUp() {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CarPark.resetInstance();
+    }
+
+    @Test
+    @DisplayName("Consumers should read every change in order at their own pace")
+    void testIndependentConsumers() throws Exception {
+        OccupancyEventStream stream = new OccupancyEventStream(64);
+        stream.attach(carPark);
+        OccupancyEventStream.Subscription signage = stream.subscribe();
+        OccupancyEventStream.Subscription billing = stream.subscribe();
+
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        Car car = new Car("B1234", "Jane", false);
+        carPark.parkCar("V01", car);
+        carPark.removeCar("B1234");
+        carPark.removeSlot("V01");
+
+        List<Kind> kinds = new ArrayList<>();
+        assertEquals(4, signage.poll((sequence, kind, slot, parked, time) -> {
+            assertEquals("V01", slot.getSlotId());
+            assertEquals(kind == Kind.CAR_PARKED || kind == Kind.CAR_REMOVED ? car : null, parked);
+            kinds.add(kind);
+        }, 100));
+        assertEquals(List.of(Kind.SLOT_ADDED, Kind.CAR_PARKED, Kind.CAR_REMOVED, Kind.SLOT_REMOVED), kinds);
+        assertEquals(0, signage.poll((sequence, kind, slot, parked, time) -> {}, 100));
+
+        List<Long> sequences = new ArrayList<>();
+        assertEquals(3, billing.poll((sequence, kind, slot, parked, time) -> sequences.add(sequence), 3));
+        assertEquals(1, billing.getBacklog());
+        assertEquals(1, billing.poll((sequence, kind, slot, parked, time) -> sequences.add(sequence), 3));
+        assertEquals(List.of(0L, 1L, 2L, 3L), sequences);
+    }
+
+    @Test
+    @DisplayName("A consumer lapped by publishers should skip what was overwritten")
+    void testLappedConsumer() throws Exception {
+        OccupancyEventStream stream = new OccupancyEventStream(8);
+        stream.attach(carPark);
+        OccupancyEventStream.Subscription slow = stream.subscribe();
+
+        for (int i = 1; i <= 20; i++) {
+            carPark.addSlot(ParkingSlotFactory.createVisitorSlot(String.format("V%02d", i)));
+        }
+
+        List<String> slotIds = new ArrayList<>();
+        assertEquals(8, slow.poll((sequence, kind, slot, car, time) -> slotIds.add(slot.getSlotId()), 100));
+        assertEquals(12, slow.getLostCount());
+        assertEquals("V13", slotIds.get(0));
+        assertEquals("V20", slotIds.get(7));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyEventStream(100));
+    }
+
+    @Test
+    @DisplayName("Events from concurrent gates should arrive complete and in order per slot")
+    void testConcurrentPublishers() throws Exception {
+        int gates = 4;
+        int rounds = 10_000;
+        OccupancyEventStream stream = new OccupancyEventStream(1 << 17);
+        for (int gate = 0; gate < gates; gate++) {
+            carPark.addSlot(ParkingSlotFactory.createVisitorSlot(String.format("V%02d", gate)));
+        }
+        stream.attach(carPark);
+        OccupancyEventStream.Subscription consumer = stream.subscribe();
+
+        ExecutorService executor = Executors.newFixedThreadPool(gates);
+        CountDownLatch done = new CountDownLatch(gates);
+        for (int gate = 0; gate < gates; gate++) {
+            String slotId = String.format("V%02d", gate);
+            Car car = new Car(String.format("A%04d", gate), "Owner", false);
+            executor.execute(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    carPark.parkCarSafe(slotId, car);
+                    carPark.removeCarSafe(car.getRegistrationNumber());
+                }
+                done.countDown();
+            });
+        }
+
+        Map<String, Kind> lastKind = new HashMap<>();
+        long[] delivered = new long[1];
+        while (done.getCount() > 0 || consumer.getBacklog() > 0) {
+            delivered[0] += consumer.poll((sequence, kind, slot, car, time) -> {
+                Kind previous = lastKind.put(slot.getSlotId(), kind);
+                assertNotEquals(kind, previous, slot.getSlotId());
+                assertNotNull(car);
+            }, 256);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(0, consumer.getLostCount());
+        assertEquals(2L * gates * rounds, delivered[0]);
+    }
+}
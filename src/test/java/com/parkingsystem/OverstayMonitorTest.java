@@ -0,0 +1,160 @@
+package com.parkingsystem;
+
+import com.parkingsystem.factory.ParkingSlotFactory;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.models.ParkingSlot;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.services.OverstayMonitor;
+import com.parkingsystem.utils.ParkingClock;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for OverstayMonitor.
+ * Tests timer scheduling, cancellation and firing across wheel levels.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class OverstayMonitorTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long START = Instant.parse("2024-03-04T08:00:00Z").toEpochMilli();
+
+    private CarPark carPark;
+    private List<Car> overstays;
+
+    @BeforeEach
+    void setUp() {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        overstays = new ArrayList<>();
+        setTime(START);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ParkingClock.reset();
+        CarPark.resetInstance();
+    }
+
+    @Test
+    @DisplayName("A car should be reported once, after it passes the maximum stay")
+    void testOverstayReportedOnce() throws Exception {
+        OverstayMonitor monitor = new OverstayMonitor(2 * HOUR, MINUTE, (slot, car, now) -> overstays.add(car));
+        monitor.attach(carPark);
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        Car car = new Car("B1234", "Jane", false);
+        carPark.parkCar("V01", car);
+        carPark.parkCar("V02", new Car("C1234", "John", false));
+        carPark.removeCar("C1234");
+
+        assertEquals(0, monitor.advance(START + 2 * HOUR));
+        assertEquals(1, monitor.advance(START + 2 * HOUR + MINUTE));
+        assertEquals(List.of(car), overstays);
+        assertEquals(0, monitor.advance(START + 48 * HOUR));
+        assertEquals(0, monitor.getTrackedCount());
+    }
+
+    @Test
+    @DisplayName("Clearing the car park should cancel the timers of its cars")
+    void testClearCancelsTimers() throws Exception {
+        OverstayMonitor monitor = new OverstayMonitor(2 * HOUR, MINUTE, (slot, car, now) -> overstays.add(car));
+        monitor.attach(carPark);
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("V01", new Car("B1234", "Jane", false));
+        assertEquals(1, monitor.getTrackedCount());
+
+        carPark.clear();
+
+        assertEquals(0, monitor.getTrackedCount());
+        assertEquals(0, monitor.advance(START + 3 * HOUR));
+        assertTrue(overstays.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stays spanning every wheel should fire at their first tick past the deadline")
+    void testMatchesBruteForce() throws Exception {
+        long maxStay = 30 * 24 * HOUR;
+        OverstayMonitor monitor = new OverstayMonitor(maxStay, MINUTE, (slot, car, now) -> overstays.add(car));
+        monitor.attach(carPark);
+        Random random = new Random(42);
+        Map<Car, Long> deadlines = new HashMap<>();
+        long now = START;
+
+        for (int i = 0; i < 500; i++) {
+            String slotId = String.format("V%02d", i % 100);
+            if (carPark.findSlotById(slotId) == null) {
+                carPark.addSlot(ParkingSlotFactory.createVisitorSlot(slotId));
+            }
+            ParkingSlot slot = carPark.findSlotById(slotId);
+            if (slot.isOccupied()) {
+                Car leaving = slot.getParkedCar();
+                carPark.removeCar(leaving.getRegistrationNumber());
+                deadlines.remove(leaving);
+            }
+
+            Car car = new Car(String.format("A%04d", i), "Owner", false);
+            carPark.parkCar(slotId, car);
+            deadlines.put(car, now + maxStay);
+
+            now += (long) (random.nextDouble() * 6 * 24 * HOUR);
+            setTime(now);
+            overstays.clear();
+            monitor.advance(now);
+
+            for (Car reported : overstays) {
+                assertTrue(deadlines.remove(reported) < now, reported.getRegistrationNumber());
+            }
+            for (long deadline : deadlines.values()) {
+                assertTrue(deadline >= now - MINUTE, "a due car was not reported");
+            }
+        }
+        assertEquals(deadlines.size(), monitor.getTrackedCount());
+    }
+
+    @Test
+    @DisplayName("Cars parked before attaching should be timed from their parking times")
+    void testAttachAfterRestore() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        Car car = new Car("A1234", "Jane", true);
+        carPark.parkCar("S01", car);
+        car.setParkingTimeMillis(START - 3 * HOUR);
+
+        OverstayMonitor monitor = new OverstayMonitor(2 * HOUR, MINUTE, (slot, parked, now) -> overstays.add(parked));
+        monitor.attach(carPark);
+
+        assertEquals(1, monitor.advance(START + MINUTE));
+        assertEquals(List.of(car), overstays);
+    }
+
+    @Test
+    @DisplayName("A timer should be rescheduled if the parking time moved later")
+    void testParkingTimeMovedLater() throws Exception {
+        OverstayMonitor monitor = new OverstayMonitor(HOUR, MINUTE, (slot, car, now) -> overstays.add(car));
+        monitor.attach(carPark);
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        Car car = new Car("B1234", "Jane", false);
+        carPark.parkCar("V01", car);
+        car.setParkingTimeMillis(START + HOUR);
+
+        assertEquals(0, monitor.advance(START + HOUR + MINUTE));
+        assertEquals(1, monitor.advance(START + 2 * HOUR + MINUTE));
+        assertThrows(IllegalArgumentException.class, () -> new OverstayMonitor(0, MINUTE, (slot, c, now) -> {}));
+    }
+
+    private static void setTime(long epochMillis) {
+        ParkingClock.setClock(Clock.fixed(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+}
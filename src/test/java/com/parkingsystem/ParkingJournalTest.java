@@ -0,0 +1,253 @@
+package com.parkingsystem;
+
+import com.parkingsystem.interfaces.IParkingEventListener;
+import com.parkingsystem.persistence.DataPersistence;
+import com.parkingsystem.persistence.ParkingJournal;
+import com.parkingsystem.services.CarPark;
+import com.parkingsystem.models.*;
+import com.parkingsystem.factory.ParkingSlotFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for ParkingJournal.
+ * Tests journaling, crash recovery and checkpoints.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class ParkingJournalTest {
+
+    private static final String NAME = "journal";
+    private static final LocalDateTime PARKED_AT = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+
+    @TempDir
+    Path tempDir;
+
+    private CarPark carPark;
+    private ParkingJournal journal;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        journal = new ParkingJournal(tempDir, NAME, 1000);
+        carPark.addListener(journal);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        journal.close();
+        carPark.clear();
+    }
+
+    @Test
+    @DisplayName("Replaying the journal should rebuild slots and parked cars")
+    void testReplayRebuildsState() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        carPark.parkCar("S01", new Car("A1234", "John", true));
+        carPark.parkCar("V01", new Car("B1234", "Jane", false));
+        carPark.removeCar("A1234");
+        carPark.removeSlot("V02");
+        LocalDateTime parkedAt = carPark.findCarByRegistration("B1234").getParkedCar().getParkingTime();
+        journal.flush();
+
+        CarPark restored = recover();
+
+        assertEquals(2, restored.getTotalSlots());
+        assertNull(restored.findSlotById("V02"));
+        assertNull(restored.findCarByRegistration("A1234"));
+        Car car = restored.findCarByRegistration("B1234").getParkedCar();
+        assertEquals("Jane", car.getOwnerName());
+        assertEquals(parkedAt, car.getParkingTime());
+        assertTrue(restored.findSlotById("S01") instanceof StaffSlot);
+    }
+
+    @Test
+    @DisplayName("A torn record at the end of the journal should be ignored")
+    void testTornTailIgnored() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        carPark.parkCar("S01", new Car("A1234", "John", true));
+        journal.flush();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            segment = files.filter(file -> file.getFileName().toString().startsWith(NAME)).findFirst().get();
+        }
+        Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        CarPark restored = recover();
+
+        assertEquals(1, restored.getTotalSlots());
+        assertNotNull(restored.findCarByRegistration("A1234"));
+    }
+
+    @Test
+    @DisplayName("A car without an owner name should be journaled")
+    void testNullOwnerReplays() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("V01", new Car("B1234", null, false));
+        journal.flush();
+
+        CarPark restored = recover();
+
+        assertEquals("V01", restored.findCarByRegistration("B1234").getSlotId());
+        assertNull(restored.findSlotById("V01").getParkedCar().getOwnerName());
+    }
+
+    @Test
+    @DisplayName("Strings longer than 64 KB should be journaled whole")
+    void testLongStringReplays() throws Exception {
+        String ownerName = "J".repeat(0xFFFF) + "é";
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("V01", new Car("B1234", ownerName, false));
+        journal.flush();
+
+        CarPark restored = recover();
+
+        assertEquals(ownerName, restored.findSlotById("V01").getParkedCar().getOwnerName());
+    }
+
+    @Test
+    @DisplayName("Clearing the car park should be journaled")
+    void testClearIsJournaled() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("V01", new Car("B1234", "Jane", false));
+        carPark.clear();
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        journal.flush();
+
+        CarPark restored = recover();
+
+        assertEquals(1, restored.getTotalSlots());
+        assertNull(restored.findSlotById("V01"));
+        assertNull(restored.findCarByRegistration("B1234"));
+    }
+
+    @Test
+    @DisplayName("Segments written after a torn one should still replay")
+    void testSegmentAfterTornSegmentReplays() throws Exception {
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        journal.flush();
+        journal.close();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Path segment = files.filter(file -> file.getFileName().toString().startsWith(NAME)).findFirst().get();
+            Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+        }
+
+        // Restart: replay, then journal into a new segment
+        CarPark.resetInstance();
+        carPark = CarPark.getInstance();
+        assertEquals(1, ParkingJournal.replay(tempDir, NAME, carPark));
+        journal = new ParkingJournal(tempDir, NAME, 1000);
+        carPark.addListener(journal);
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.parkCar("V01", new Car("B1234", "Jane", false));
+        journal.flush();
+
+        CarPark restored = recover();
+
+        assertEquals(2, restored.getTotalSlots());
+        assertEquals("V01", restored.findCarByRegistration("B1234").getSlotId());
+    }
+
+    @Test
+    @DisplayName("Changes after a checkpoint should replay on top of the snapshot")
+    void testCheckpointThenReplay() throws Exception {
+        DataPersistence persistence = new DataPersistence();
+        Path snapshot = tempDir.resolve("snapshot.json");
+
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V01"));
+        carPark.addSlot(ParkingSlotFactory.createVisitorSlot("V02"));
+        Car car = new Car("B1234", "Jane", false);
+        carPark.parkCar("V01", car);
+        car.setParkingTime(PARKED_AT);
+        persistence.checkpoint(carPark, journal, snapshot.toString());
+
+        carPark.removeCar("B1234");
+        carPark.parkCar("V02", new Car("B1234", "Jane", false));
+        carPark.addSlot(ParkingSlotFactory.createStaffSlot("S01"));
+        journal.flush();
+
+        CarPark.resetInstance();
+        CarPark restored = CarPark.getInstance();
+        persistence.loadIntoCarPark(restored, snapshot.toString());
+        assertEquals(3, ParkingJournal.replay(tempDir, NAME, restored));
+
+        assertEquals(3, restored.getTotalSlots());
+        assertEquals("V02", restored.findCarByRegistration("B1234").getSlotId());
+        assertFalse(restored.findSlotById("V01").isOccupied());
+    }
+
+    @Test
+    @DisplayName("Removals racing a checkpoint should not come back after recovery")
+    void testCheckpointRacingRemovals() throws Exception {
+        DataPersistence persistence = new DataPersistence();
+        Path snapshot = tempDir.resolve("snapshot.json");
+        // A slow listener after the journal holds each change open after it is
+        // journaled for longer than a checkpoint takes to roll the segment
+        carPark.addListener(new IParkingEventListener() {
+            @Override
+            public void onCarRemoved(ParkingSlot slot, Car car) {
+                LockSupport.parkNanos(2_000_000);
+            }
+
+            @Override
+            public void onSlotRemoved(ParkingSlot slot) {
+                LockSupport.parkNanos(2_000_000);
+            }
+        });
+
+        for (int level = 1; level <= 20; level++) {
+            List<String> slotIds = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                String slotId = "F1-L" + level + "-A" + i;
+                slotIds.add(slotId);
+                carPark.addSlot(ParkingSlotFactory.createVisitorSlot(slotId));
+                carPark.parkCar(slotId, new Car(String.format("B%02d%02d", level, i), "Jane", false));
+            }
+
+            Thread gate = new Thread(() -> {
+                for (String slotId : slotIds) {
+                    Car car = carPark.findSlotById(slotId).getParkedCar();
+                    carPark.removeCarSafe(car.getRegistrationNumber());
+                    if (slotId.endsWith("5")) {
+                        carPark.removeSlotSafe(slotId);
+                    }
+                }
+            });
+            gate.start();
+            Thread.sleep(level % 10);
+            persistence.checkpoint(carPark, journal, snapshot.toString());
+            gate.join();
+            journal.flush();
+
+            CarPark.resetInstance();
+            CarPark restored = CarPark.getInstance();
+            persistence.loadIntoCarPark(restored, snapshot.toString());
+            ParkingJournal.replay(tempDir, NAME, restored);
+
+            assertEquals(carPark.getTotalSlots(), restored.getTotalSlots(), "Slots after round " + level);
+            assertEquals(0, restored.getOccupiedCount(), "Occupied after round " + level);
+        }
+    }
+
+    private CarPark recover() throws Exception {
+        CarPark.resetInstance();
+        CarPark restored = CarPark.getInstance();
+        ParkingJournal.replay(tempDir, NAME, restored);
+        return restored;
+    }
+}
@@ -2,9 +2,16 @@ package com.parkingsystem;
 
 import com.parkingsystem.models.*;
 import com.parkingsystem.exceptions.*;
+import com.parkingsystem.services.FeeCalculatorService;
+import com.parkingsystem.utils.ParkingClock;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 /**
  * Unit tests for ParkingSlot hierarchy.
  * Tests inheritance and polymorphism behavior.
@@ -127,6 +134,50 @@ public class ParkingSlotTest {
         assertNull(staffSlot.removeCar());
     }
     
+    @Test
+    @DisplayName("Fees should follow the installed clock")
+    void testFeesUseParkingClock() {
+        Clock parkedAt = Clock.fixed(Instant.parse("2024-03-01T08:00:00Z"), ZoneOffset.UTC);
+        try {
+            ParkingClock.setClock(parkedAt);
+            visitorSlot.parkCar(visitorCar);
+            assertEquals(5.0, visitorSlot.calculateParkingFee(), "Minimum one hour");
+            
+            ParkingClock.setClock(Clock.offset(parkedAt, Duration.ofMinutes(200)));
+            assertEquals(15.0, visitorSlot.calculateParkingFee());
+            assertEquals(15.0, new FeeCalculatorService.StandardFeeCalculator(5.0).calculateFee(visitorCar));
+            assertEquals(Duration.ofMinutes(200), visitorCar.getParkingDurationObject());
+        } finally {
+            ParkingClock.reset();
+        }
+    }
+    
+    @Test
+    @DisplayName("Fees at an explicit time should not depend on the clock")
+    void testFeeAtExplicitTime() {
+        staffSlot.parkCar(staffCar);
+        long parkedAt = staffCar.getParkingTimeMillis();
+        
+        assertEquals(3.0, staffSlot.calculateParkingFee(parkedAt));
+        assertEquals(3.0, staffSlot.calculateParkingFee(parkedAt - 1000), "Clock behind parking time");
+        assertEquals(9.0, staffSlot.calculateParkingFee(parkedAt + Duration.ofHours(3).toMillis()));
+        assertEquals(0.0, visitorSlot.calculateParkingFee(parkedAt), "Empty slot");
+    }
+    
+    @Test
+    @DisplayName("Daily maximum should cap each day of a multi-day stay")
+    void testDailyMaxMultiDay() {
+        FeeCalculatorService.DailyMaxFeeCalculator calculator = new FeeCalculatorService.DailyMaxFeeCalculator(5.0, 20.0);
+        visitorCar.setParkingTimeMillis(0);
+        
+        assertEquals(15.0, calculator.calculateFee(visitorCar, Duration.ofHours(3).toMillis()));
+        assertEquals(20.0, calculator.calculateFee(visitorCar, Duration.ofHours(10).toMillis()));
+        assertEquals(20.0, calculator.calculateFee(visitorCar, Duration.ofHours(24).toMillis()));
+        assertEquals(30.0, calculator.calculateFee(visitorCar, Duration.ofHours(26).toMillis()));
+        assertEquals(7 * 20.0, calculator.calculateFee(visitorCar, Duration.ofDays(7).toMillis()));
+        assertEquals(90 * 20.0 + 20.0, calculator.calculateFee(visitorCar, Duration.ofDays(90).plusHours(5).toMillis()));
+    }
+    
     @Test
     @DisplayName("Slots with same ID should be equal")
     void testSlotEquality() {
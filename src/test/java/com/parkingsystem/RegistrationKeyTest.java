@@ -0,0 +1,57 @@
+package com.parkingsystem;
+
+import com.parkingsystem.models.RegistrationKey;
+import com.parkingsystem.utils.KeyCodec;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RegistrationKey.
+ * Tests packing and formatting of registration plates.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class RegistrationKeyTest {
+
+    @Test
+    @DisplayName("Plates should round trip through their keys")
+    void testRoundTrip() {
+        for (String plate : new String[] {"A1234", "KA01AB1234", "0", "Z", "00A", "ZZZZZZZZZZZZ", "000000000000"}) {
+            long key = RegistrationKey.parse(plate);
+            assertTrue(key > 0, plate);
+            assertEquals(plate, RegistrationKey.format(key));
+            assertEquals(plate.length(), RegistrationKey.lengthOf(key));
+            assertEquals(plate, RegistrationKey.valueOf(plate).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Plates differing only in leading zeros should have distinct keys")
+    void testLeadingZeros() {
+        assertNotEquals(RegistrationKey.parse("A1"), RegistrationKey.parse("0A1"));
+        assertNotEquals(RegistrationKey.parse("1"), RegistrationKey.parse("01"));
+        assertEquals(RegistrationKey.valueOf("AB12"), RegistrationKey.valueOf("AB12"));
+    }
+
+    @Test
+    @DisplayName("Strings that are not plates should not parse")
+    void testRejects() {
+        for (String value : new String[] {null, "", "a1234", "A-123", "A 123", "ZZZZZZZZZZZZZ", "É1234"}) {
+            assertEquals(RegistrationKey.NO_KEY, RegistrationKey.parse(value), String.valueOf(value));
+        }
+        assertNull(RegistrationKey.valueOf("ab"));
+        assertThrows(IllegalArgumentException.class, () -> RegistrationKey.format(0));
+    }
+
+    @Test
+    @DisplayName("Canonical plates should narrow to their KeyCodec keys")
+    void testNarrow() {
+        for (String plate : new String[] {"A0000", "A1234", "T0042", "Z9999"}) {
+            assertEquals(KeyCodec.REGISTRATION.encode(plate), KeyCodec.REGISTRATION.narrow(RegistrationKey.parse(plate)), plate);
+        }
+        for (String plate : new String[] {"AB123", "12345", "A123", "A12345", "KA01AB1234"}) {
+            assertEquals(KeyCodec.NO_KEY, KeyCodec.REGISTRATION.narrow(RegistrationKey.parse(plate)), plate);
+        }
+    }
+}
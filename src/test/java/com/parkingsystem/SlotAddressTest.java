@@ -0,0 +1,54 @@
+package com.parkingsystem;
+
+import com.parkingsystem.models.SlotAddress;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlotAddress.
+ * Tests parsing, formatting and packing of hierarchical slot addresses.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class SlotAddressTest {
+
+    @Test
+    @DisplayName("An address should round trip through its slot ID and packed key")
+    void testRoundTrip() {
+        SlotAddress address = SlotAddress.of(12, 3, 'B', 147);
+
+        assertEquals("F12-L3-B147", address.toSlotId());
+        assertEquals(address, SlotAddress.valueOf("F12-L3-B147"));
+        assertEquals(address.toPacked(), SlotAddress.parse("F12-L3-B147"));
+        assertEquals(12, address.getFacility());
+        assertEquals(3, address.getLevel());
+        assertEquals('B', address.getZone());
+        assertEquals(147, address.getBay());
+
+        for (String id : new String[] {"F0-L0-A0", "F999-L99-Z9999", "F1-L2-A147"}) {
+            assertEquals(id, SlotAddress.format(SlotAddress.parse(id)));
+        }
+    }
+
+    @Test
+    @DisplayName("Distinct addresses should pack to distinct keys")
+    void testPackedKeysAreDistinct() {
+        assertNotEquals(SlotAddress.pack(1, 2, 'A', 3), SlotAddress.pack(1, 2, 'B', 3));
+        assertNotEquals(SlotAddress.pack(1, 2, 'A', 3), SlotAddress.pack(2, 1, 'A', 3));
+        assertTrue(SlotAddress.pack(SlotAddress.MAX_FACILITY, SlotAddress.MAX_LEVEL, 'Z', SlotAddress.MAX_BAY) >= 0);
+    }
+
+    @Test
+    @DisplayName("Strings that are not addresses should not parse")
+    void testRejects() {
+        String[] invalid = {null, "", "S01", "F1-L2-A", "F1-L2-147", "F1-L2-a147", "F01-L2-A147", "F1-L02-A147",
+                            "F1-L2-A0147", "F1000-L2-A1", "F1-L100-A1", "F1-L2-A10000", "F1-L2-A1 ", "F-L2-A1", "F1L2A1"};
+        for (String id : invalid) {
+            assertEquals(SlotAddress.NO_ADDRESS, SlotAddress.parse(id), String.valueOf(id));
+        }
+        assertNull(SlotAddress.valueOf("S01"));
+        assertThrows(IllegalArgumentException.class, () -> SlotAddress.of(1, 2, 'a', 3));
+        assertThrows(IllegalArgumentException.class, () -> SlotAddress.of(1, 100, 'A', 3));
+    }
+}
@@ -0,0 +1,178 @@
+package com.parkingsystem;
+
+import com.parkingsystem.interfaces.IFeeCalculator;
+import com.parkingsystem.models.Car;
+import com.parkingsystem.services.FeeCalculatorService;
+import com.parkingsystem.services.Tariff;
+import com.parkingsystem.utils.ParkingClock;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Unit tests for Tariff.
+ * Tests bands, grace periods and daily caps of compiled tariffs.
+ *
+ * @author [Your Name]
+ * @version 1.0
+ */
+public class TariffTest {
+
+    private static final long HOUR = 3_600_000L;
+    // A Monday
+    private static final long MONDAY = LocalDateTime.of(2024, 3, 4, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private Car car;
+
+    @BeforeEach
+    void setUp() {
+        car = new Car("B1234", "Jane", false);
+        ParkingClock.setClock(Clock.fixed(Instant.ofEpochMilli(MONDAY), ZoneOffset.UTC));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ParkingClock.reset();
+    }
+
+    @Test
+    @DisplayName("A flat tariff should charge like the standard calculator")
+    void testFlatTariff() {
+        IFeeCalculator tariff = Tariff.builder("Flat", 5.0).build().compile();
+        IFeeCalculator standard = new FeeCalculatorService.StandardFeeCalculator(5.0);
+        park(MONDAY + 9 * HOUR);
+
+        for (long hours : new long[] {0, 1, 5, 24, 200, 2000}) {
+            long now = MONDAY + 9 * HOUR + hours * HOUR + 1;
+            assertEquals(standard.calculateFee(car, now), tariff.calculateFee(car, now), 1e-9);
+        }
+        assertEquals(0.0, tariff.calculateFee(new Car("A1234", "John", true), MONDAY));
+    }
+
+    @Test
+    @DisplayName("Hours should be priced by the weekday or weekend band they start in")
+    void testBands() {
+        Tariff.Calculator tariff = Tariff.builder("Visitor", 5.0)
+                .weekdayBand(7, 10, 8.0)
+                .weekendBand(0, 24, 3.0)
+                .build()
+                .compile();
+
+        // Monday 06:00 to 11:00: one off-peak hour, three peak, one off-peak
+        assertEquals(5 + 3 * 8 + 5, tariff.feeFor(MONDAY + 6 * HOUR, 5), 1e-9);
+        // Friday 22:00 to Saturday 02:00
+        assertEquals(2 * 5 + 2 * 3, tariff.feeFor(MONDAY + 4 * 24 * HOUR + 22 * HOUR, 4), 1e-9);
+    }
+
+    @Test
+    @DisplayName("An overnight band should run past midnight")
+    void testOvernightBand() {
+        Tariff.Calculator tariff = Tariff.builder("Night", 5.0)
+                .band(Tariff.Days.ALL, 22, 6, 1.0)
+                .build()
+                .compile();
+
+        // Sunday 21:00 to Monday 07:00
+        assertEquals(5 + 8 * 1 + 5, tariff.feeFor(MONDAY - 3 * HOUR, 10), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Stays within the grace period should be free")
+    void testGracePeriod() {
+        IFeeCalculator tariff = Tariff.builder("Visitor", 5.0)
+                .gracePeriod(Duration.ofMinutes(15))
+                .build()
+                .compile();
+        park(MONDAY);
+
+        assertEquals(0.0, tariff.calculateFee(car, MONDAY + Duration.ofMinutes(15).toMillis()));
+        assertEquals(5.0, tariff.calculateFee(car, MONDAY + Duration.ofMinutes(16).toMillis()));
+    }
+
+    @Test
+    @DisplayName("The daily cap should apply to every 24 hours of a multi-day stay")
+    void testDailyCapMatchesHourByHour() {
+        Tariff.Calculator tariff = Tariff.builder("Visitor", 2.0)
+                .weekdayBand(8, 18, 4.0)
+                .weekendBand(10, 16, 1.0)
+                .dailyCap(30.0)
+                .zone(ZoneOffset.ofHours(2))
+                .build()
+                .compile();
+        Tariff.Calculator uncapped = Tariff.builder("Visitor", 2.0)
+                .weekdayBand(8, 18, 4.0)
+                .weekendBand(10, 16, 1.0)
+                .zone(ZoneOffset.ofHours(2))
+                .build()
+                .compile();
+
+        for (int startHour = 0; startHour < 168; startHour += 13) {
+            long arrival = MONDAY + startHour * HOUR;
+            for (long hours = 1; hours <= 24 * 20; hours += 7) {
+                double expected = 0;
+                for (long day = 0; day * 24 < hours; day++) {
+                    long length = Math.min(24, hours - day * 24);
+                    expected += Math.min(30.0, uncapped.feeFor(arrival + day * 24 * HOUR, length));
+                }
+                assertEquals(expected, tariff.feeFor(arrival, hours), 1e-6, "start " + startHour + ", " + hours + "h");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Hours should be placed in bands in ParkingClock's zone unless the tariff sets one")
+    void testZoneFollowsParkingClock() {
+        Tariff.Calculator tariff = Tariff.builder("Visitor", 5.0)
+                .weekdayBand(7, 10, 8.0)
+                .build()
+                .compile();
+        Tariff.Calculator utc = Tariff.builder("Visitor", 5.0)
+                .weekdayBand(7, 10, 8.0)
+                .zone(ZoneOffset.UTC)
+                .build()
+                .compile();
+
+        // Monday 05:00 UTC is 07:00 at UTC+2
+        assertEquals(5.0, tariff.feeFor(MONDAY + 5 * HOUR, 1), 1e-9);
+        ParkingClock.setClock(Clock.fixed(Instant.ofEpochMilli(MONDAY), ZoneOffset.ofHours(2)));
+        assertEquals(ZoneOffset.ofHours(2), tariff.getTariff().getZone());
+        assertEquals(8.0, tariff.feeFor(MONDAY + 5 * HOUR, 1), 1e-9);
+        assertEquals(5.0, utc.feeFor(MONDAY + 5 * HOUR, 1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("A zone with daylight saving should use the offset in effect at arrival")
+    void testDaylightSavingZone() {
+        Tariff.Calculator tariff = Tariff.builder("Visitor", 5.0)
+                .weekdayBand(7, 10, 8.0)
+                .zone(ZoneId.of("Europe/London"))
+                .build()
+                .compile();
+        long summerMonday = LocalDateTime.of(2024, 7, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        // GMT in March, BST (UTC+1) in July
+        assertEquals(8.0, tariff.feeFor(MONDAY + 7 * HOUR, 1), 1e-9);
+        assertEquals(5.0, tariff.feeFor(MONDAY + 10 * HOUR, 1), 1e-9);
+        assertEquals(8.0, tariff.feeFor(summerMonday + 6 * HOUR, 1), 1e-9);
+        assertEquals(5.0, tariff.feeFor(summerMonday + 9 * HOUR, 1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Invalid tariff definitions should be rejected")
+    void testInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class, () -> Tariff.builder("", 5.0));
+        assertThrows(IllegalArgumentException.class, () -> Tariff.builder("Visitor", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> Tariff.builder("Visitor", 5.0).weekdayBand(9, 9, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> Tariff.builder("Visitor", 5.0).weekdayBand(9, 25, 1.0));
+    }
+
+    private void park(long parkedAt) {
+        car.setParkingTimeMillis(parkedAt);
+    }
+}
@@ -1,5 +1,6 @@
 package com.parkingsystem;
 
+import com.parkingsystem.utils.KeyCodec;
 import com.parkingsystem.utils.ValidationUtils;
 import com.parkingsystem.exceptions.*;
 import org.junit.jupiter.api.*;
@@ -23,6 +24,7 @@ public class ValidationUtilsTest {
         assertTrue(ValidationUtils.validateSlotId("V99"));
         assertTrue(ValidationUtils.validateSlotId("A00"));
         assertTrue(ValidationUtils.validateSlotId("Z12"));
+        assertTrue(ValidationUtils.validateSlotId("F1-L2-A147"));
     }
     
     @Test
@@ -74,4 +76,65 @@ public class ValidationUtilsTest {
         assertFalse(ValidationUtils.isValidRegistration("invalid"));
         assertFalse(ValidationUtils.isValidRegistration(null));
     }
+    
+    @Test
+    @DisplayName("Plate validation should accept domestic and international formats")
+    void testValidPlates() throws Exception {
+        assertTrue(ValidationUtils.validatePlate("A1234"));
+        assertTrue(ValidationUtils.validatePlate("KA01AB1234"));
+        assertTrue(ValidationUtils.isValidPlate("AB123"));
+        assertFalse(ValidationUtils.isValidPlate("ka01ab1234"));
+        assertFalse(ValidationUtils.isValidPlate("ABCDEFGHIJKLM"));
+        assertThrows(InvalidRegistrationException.class, () -> ValidationUtils.validatePlate("KA-01"));
+        assertThrows(InvalidRegistrationException.class, () -> ValidationUtils.validatePlate(null));
+    }
+    
+    @Test
+    @DisplayName("Boolean validators should accept exactly what parsing the digits accepted")
+    void testCharacterLevelValidatorsMatchParsing() {
+        String[] inputs = {"S01", "S+1", "S-1", "S+-", "S1+", "S\u0661\u0662", "S\uFF11\uFF12", "\u00C901", "s01", "S 1",
+                           "A1234", "A+123", "A-123", "A12-3", "A\u0661234", "AB123", "A12 4", "\u00C91234"};
+        for (String input : inputs) {
+            assertEquals(parsesAs(input, 3), ValidationUtils.isValidSlotId(input), input);
+            assertEquals(parsesAs(input, 5), ValidationUtils.isValidRegistration(input), input);
+        }
+    }
+    
+    private static boolean parsesAs(String value, int length) {
+        if (value.length() != length || !Character.isUpperCase(value.charAt(0)) || !Character.isLetter(value.charAt(0))) {
+            return false;
+        }
+        try {
+            Integer.parseInt(value.substring(1));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    // Key encoding tests
+    
+    @Test
+    @DisplayName("Canonical IDs should encode to dense keys and decode back")
+    void testKeyCodecRoundTrip() {
+        assertEquals(0, KeyCodec.SLOT_ID.encode("A00"));
+        assertEquals(2599, KeyCodec.SLOT_ID.encode("Z99"));
+        assertEquals(259999, KeyCodec.REGISTRATION.encode("Z9999"));
+        
+        for (String id : new String[] {"S01", "V99", "A00", "Z12"}) {
+            assertEquals(id, KeyCodec.SLOT_ID.decode(KeyCodec.SLOT_ID.encode(id)));
+        }
+        assertEquals("A1234", KeyCodec.REGISTRATION.decode(KeyCodec.REGISTRATION.encode("A1234")));
+        assertThrows(IllegalArgumentException.class, () -> KeyCodec.SLOT_ID.decode(2600));
+    }
+    
+    @Test
+    @DisplayName("Non-canonical IDs should not encode")
+    void testKeyCodecRejects() {
+        for (String id : new String[] {null, "", "S1", "S001", "s01", "1S1", "SAB", "S+1", "\u00C901"}) {
+            assertEquals(KeyCodec.NO_KEY, KeyCodec.SLOT_ID.encode(id), String.valueOf(id));
+        }
+        assertEquals(KeyCodec.NO_KEY, KeyCodec.REGISTRATION.encode("A123"));
+        assertEquals(KeyCodec.NO_KEY, KeyCodec.REGISTRATION.encode("R1"));
+    }
 }